@@ -16,6 +16,7 @@ import cofh.lib.capability.CapabilityArchery;
 import cofh.lib.capability.CapabilityAreaEffect;
 import cofh.lib.capability.CapabilityEnchantableItem;
 import cofh.lib.capability.CapabilityShieldItem;
+import cofh.lib.capability.CapabilityTimedBlocks;
 import cofh.lib.item.impl.SpawnEggItemCoFH;
 import cofh.lib.loot.TileNBTSync;
 import cofh.lib.network.PacketHandler;
@@ -114,9 +115,12 @@ public class CoFHCore {
         PACKET_HANDLER.registerPacket(PACKET_REDSTONE, TileRedstonePacket::new);
         PACKET_HANDLER.registerPacket(PACKET_STATE, TileStatePacket::new);
         PACKET_HANDLER.registerPacket(PACKET_RENDER, TileRenderPacket::new);
+        PACKET_HANDLER.registerPacket(PACKET_STATE_BATCH, TileStateBatchPacket::new);
+        PACKET_HANDLER.registerStateBatch(TileStateBatchPacket::create);
 
         PACKET_HANDLER.registerPacket(PACKET_CHAT, IndexedChatPacket::new);
         PACKET_HANDLER.registerPacket(PACKET_MOTION, PlayerMotionPacket::new);
+        PACKET_HANDLER.registerPacket(PACKET_OWNER_TABLE, OwnerTablePacket::new);
 
         PACKET_HANDLER.registerPacket(PACKET_GUI_OPEN, FilterGuiOpenPacket::new);
 
@@ -142,6 +146,7 @@ public class CoFHCore {
         CapabilityArchery.register();
         CapabilityEnchantableItem.register();
         CapabilityShieldItem.register();
+        CapabilityTimedBlocks.register();
 
         event.enqueueWork(SpawnEggItemCoFH::setup);
 
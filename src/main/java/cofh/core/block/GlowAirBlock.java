@@ -1,36 +1,73 @@
 package cofh.core.block;
 
-import cofh.core.tileentity.GlowAirTile;
+import cofh.lib.block.ITimedBlock;
+import cofh.lib.capability.CapabilityTimedBlocks;
+import cofh.lib.capability.ITimedBlockStorage;
 import cofh.lib.util.Utils;
 import net.minecraft.block.AirBlock;
 import net.minecraft.block.BlockState;
 import net.minecraft.particles.ParticleTypes;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.world.IBlockReader;
 import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 
 import java.util.Random;
 
-public class GlowAirBlock extends AirBlock {
+/**
+ * Temporary light source. Expiry is kept in the chunk's timed block storage rather than a tile entity; use
+ * {@link #setDuration(World, BlockPos, int)} after placing to override the default.
+ */
+public class GlowAirBlock extends AirBlock implements ITimedBlock {
+
+    public static final int DEFAULT_DURATION = 200;
 
     public GlowAirBlock(Properties builder) {
 
         super(builder);
     }
 
+    public static void setDuration(World world, BlockPos pos, int duration) {
+
+        CapabilityTimedBlocks.setTimedBlock(world, pos, duration, 0);
+    }
+
     @Override
-    public boolean hasTileEntity(BlockState state) {
+    public void onPlace(BlockState state, World worldIn, BlockPos pos, BlockState oldState, boolean isMoving) {
+
+        if (!oldState.is(this)) {
+            setDuration(worldIn, pos, DEFAULT_DURATION);
+        }
+        super.onPlace(state, worldIn, pos, oldState, isMoving);
+    }
+
+    @Override
+    public void onRemove(BlockState state, World worldIn, BlockPos pos, BlockState newState, boolean isMoving) {
+
+        if (!newState.is(this) && Utils.isServerWorld(worldIn)) {
+            ITimedBlockStorage storage = CapabilityTimedBlocks.get(worldIn, pos);
+            if (storage != null) {
+                storage.remove(pos);
+            }
+        }
+        super.onRemove(state, worldIn, pos, newState, isMoving);
+    }
+
+    // Clears out blocks without an expiry entry (e.g. placed before tile entities were dropped).
+    @Override
+    public boolean isRandomlyTicking(BlockState state) {
 
         return true;
     }
 
     @Override
-    public TileEntity createTileEntity(BlockState state, IBlockReader world) {
+    public void randomTick(BlockState state, ServerWorld worldIn, BlockPos pos, Random random) {
 
-        return new GlowAirTile();
+        ITimedBlockStorage storage = CapabilityTimedBlocks.get(worldIn, pos);
+        if (storage != null && storage.getExpiry(pos) < 0) {
+            onExpired(worldIn, pos, state);
+        }
     }
 
     @OnlyIn (Dist.CLIENT)
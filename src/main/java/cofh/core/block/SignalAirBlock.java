@@ -1,37 +1,79 @@
 package cofh.core.block;
 
-import cofh.core.tileentity.SignalAirTile;
+import cofh.lib.block.ITimedBlock;
+import cofh.lib.capability.CapabilityTimedBlocks;
+import cofh.lib.capability.ITimedBlockStorage;
 import cofh.lib.util.Utils;
+import cofh.lib.util.helpers.MathHelper;
 import net.minecraft.block.AirBlock;
 import net.minecraft.block.BlockState;
 import net.minecraft.particles.RedstoneParticleData;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockReader;
+import net.minecraft.world.IWorldReader;
 import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 
 import java.util.Random;
 
-public class SignalAirBlock extends AirBlock {
+/**
+ * Temporary redstone signal. Expiry and power are kept in the chunk's timed block storage rather than a tile entity;
+ * use {@link #setSignal(World, BlockPos, int, int)} after placing to override the defaults.
+ */
+public class SignalAirBlock extends AirBlock implements ITimedBlock {
+
+    public static final int DEFAULT_DURATION = 200;
+    public static final int DEFAULT_POWER = 15;
 
     public SignalAirBlock(Properties builder) {
 
         super(builder);
     }
 
+    public static void setSignal(World world, BlockPos pos, int duration, int power) {
+
+        CapabilityTimedBlocks.setTimedBlock(world, pos, duration, MathHelper.clamp(power, 0, 15));
+        world.updateNeighborsAt(pos, world.getBlockState(pos).getBlock());
+    }
+
+    @Override
+    public void onPlace(BlockState state, World worldIn, BlockPos pos, BlockState oldState, boolean isMoving) {
+
+        if (!oldState.is(this)) {
+            CapabilityTimedBlocks.setTimedBlock(worldIn, pos, DEFAULT_DURATION, DEFAULT_POWER);
+        }
+        super.onPlace(state, worldIn, pos, oldState, isMoving);
+    }
+
+    @Override
+    public void onRemove(BlockState state, World worldIn, BlockPos pos, BlockState newState, boolean isMoving) {
+
+        if (!newState.is(this) && Utils.isServerWorld(worldIn)) {
+            ITimedBlockStorage storage = CapabilityTimedBlocks.get(worldIn, pos);
+            if (storage != null) {
+                storage.remove(pos);
+            }
+        }
+        super.onRemove(state, worldIn, pos, newState, isMoving);
+    }
+
+    // Clears out blocks without an expiry entry (e.g. placed before tile entities were dropped).
     @Override
-    public boolean hasTileEntity(BlockState state) {
+    public boolean isRandomlyTicking(BlockState state) {
 
         return true;
     }
 
     @Override
-    public TileEntity createTileEntity(BlockState state, IBlockReader world) {
+    public void randomTick(BlockState state, ServerWorld worldIn, BlockPos pos, Random random) {
 
-        return new SignalAirTile();
+        ITimedBlockStorage storage = CapabilityTimedBlocks.get(worldIn, pos);
+        if (storage != null && storage.getExpiry(pos) < 0) {
+            onExpired(worldIn, pos, state);
+        }
     }
 
     @Override
@@ -43,8 +85,13 @@ public class SignalAirBlock extends AirBlock {
     @Override
     public int getSignal(BlockState blockState, IBlockReader blockAccess, BlockPos pos, Direction side) {
 
-        TileEntity tile = blockAccess.getBlockEntity(pos);
-        return tile instanceof SignalAirTile ? ((SignalAirTile) tile).getPower() : 0;
+        ITimedBlockStorage storage = null;
+        if (blockAccess instanceof World) {
+            storage = CapabilityTimedBlocks.get((World) blockAccess, pos);
+        } else if (blockAccess instanceof IWorldReader) {
+            storage = CapabilityTimedBlocks.get((IWorldReader) blockAccess, pos);
+        }
+        return storage == null ? 0 : storage.getPower(pos);
     }
 
     @OnlyIn (Dist.CLIENT)
@@ -104,6 +104,7 @@ public class TileBlockCoFH extends Block implements IDismantleable {
 
         TileCoFH tile = (TileCoFH) worldIn.getBlockEntity(pos);
         if (tile != null) {
+            tile.invalidateNeighborCache(fromPos);
             tile.neighborChanged(blockIn, fromPos);
         }
         super.neighborChanged(state, worldIn, pos, blockIn, fromPos, isMoving);
@@ -26,6 +26,7 @@ public class CoFHCommand {
                 .then(SubCommandIgnite.register())
                 .then(SubCommandInvis.register())
                 .then(SubCommandInvuln.register())
+                .then(SubCommandNetStats.register())
                 .then(SubCommandRecharge.register())
                 .then(SubCommandRepair.register())
                 .then(SubCommandZap.register())
@@ -0,0 +1,94 @@
+package cofh.core.command;
+
+import cofh.lib.network.PacketHandler;
+import cofh.lib.network.PacketStats;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.Commands;
+import net.minecraft.util.text.TranslationTextComponent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static cofh.lib.network.PacketStats.*;
+import static cofh.lib.util.constants.Constants.CMD_SECONDS;
+
+public class SubCommandNetStats {
+
+    public static int permissionLevel = 3;
+
+    static ArgumentBuilder<CommandSource, ?> register() {
+
+        return Commands.literal("netstats")
+                .requires(source -> source.hasPermission(permissionLevel))
+                // Default Window
+                .executes(context -> printStats(context.getSource(), 10))
+                // Window Specified
+                .then(Commands.argument(CMD_SECONDS, IntegerArgumentType.integer(1, MAX_WINDOW))
+                        .executes(context -> printStats(context.getSource(), IntegerArgumentType.getInteger(context, CMD_SECONDS))));
+    }
+
+    private static int printStats(CommandSource source, int seconds) {
+
+        List<Entry> entries = new ArrayList<>();
+        int window = 0;
+        for (PacketHandler handler : PacketHandler.getHandlers()) {
+            PacketStats stats = handler.getStats();
+            long[] delta = stats.getWindow(seconds);
+            window = Math.max(window, stats.getWindowSeconds(seconds));
+            for (int id = 1; id < 255; ++id) {
+                for (int dir = 0; dir < DIRECTIONS; ++dir) {
+                    long count = PacketStats.delta(delta, id, dir, COUNT);
+                    if (count > 0) {
+                        entries.add(new Entry(handler.getChannelName().toString(), id, dir, count, PacketStats.delta(delta, id, dir, BYTES), PacketStats.delta(delta, id, dir, NANOS)));
+                    }
+                }
+            }
+        }
+        if (window <= 0) {
+            source.sendSuccess(new TranslationTextComponent("commands.cofh.netstats.pending"), false);
+            return 0;
+        }
+        if (entries.isEmpty()) {
+            source.sendSuccess(new TranslationTextComponent("commands.cofh.netstats.empty", window), false);
+            return 0;
+        }
+        entries.sort(Comparator.comparingLong((Entry e) -> e.bytes).reversed());
+
+        source.sendSuccess(new TranslationTextComponent("commands.cofh.netstats.header", window), false);
+        for (Entry entry : entries) {
+            source.sendSuccess(new TranslationTextComponent("commands.cofh.netstats.entry",
+                    entry.channel,
+                    entry.id,
+                    PacketStats.getDirectionName(entry.direction),
+                    String.format("%.1f", (double) entry.count / window),
+                    String.format("%.0f", (double) entry.bytes / window),
+                    entry.nanos > 0 ? String.format("%.1f", entry.nanos / 1000.0D / entry.count) : "-"), false);
+        }
+        return entries.size();
+    }
+
+    private static class Entry {
+
+        final String channel;
+        final int id;
+        final int direction;
+        final long count;
+        final long bytes;
+        final long nanos;
+
+        Entry(String channel, int id, int direction, long count, long bytes, long nanos) {
+
+            this.channel = channel;
+            this.id = id;
+            this.direction = direction;
+            this.count = count;
+            this.bytes = bytes;
+            this.nanos = nanos;
+        }
+
+    }
+
+}
@@ -1,10 +1,10 @@
 package cofh.core.event;
 
 import cofh.lib.capability.templates.AreaEffectItemWrapper;
-import com.google.common.collect.ImmutableList;
 import com.mojang.blaze3d.matrix.MatrixStack;
 import com.mojang.blaze3d.vertex.IVertexBuilder;
 import com.mojang.blaze3d.vertex.MatrixApplyingVertexBuilder;
+import net.minecraft.block.BlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.PlayerController;
 import net.minecraft.client.renderer.ActiveRenderInfo;
@@ -15,16 +15,20 @@ import net.minecraft.client.renderer.model.ModelBakery;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockRayTraceResult;
 import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.world.World;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.client.event.DrawHighlightEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 
-import java.util.List;
+import java.util.Arrays;
 
 import static cofh.lib.capability.CapabilityAreaEffect.AREA_EFFECT_ITEM_CAPABILITY;
 import static cofh.lib.util.constants.Constants.ID_COFH_CORE;
@@ -38,6 +42,18 @@ public class AreaEffectClientEvents {
 
     }
 
+    // Highlight cache; client thread only. Entries live for at most one client tick, which bounds staleness after
+    // block changes while letting every frame rendered within that tick reuse the area computation.
+    private static ItemStack cachedStack = ItemStack.EMPTY;
+    private static int cachedTagHash;
+    private static long cachedTarget;
+    private static Direction cachedFace;
+    private static boolean cachedSneaking;
+    private static long cachedTime = Long.MIN_VALUE;
+    private static World cachedWorld;
+    private static BlockPos[] cachedBlocks = new BlockPos[0];
+    private static BlockState[] cachedStates = new BlockState[0];
+
     @SubscribeEvent (priority = EventPriority.LOW)
     public static void renderBlockHighlights(DrawHighlightEvent.HighlightBlock event) {
 
@@ -53,13 +69,15 @@ public class AreaEffectClientEvents {
             return;
         }
         ActiveRenderInfo renderInfo = Minecraft.getInstance().gameRenderer.getMainCamera();
-        ImmutableList<BlockPos> areaBlocks = stack.getCapability(AREA_EFFECT_ITEM_CAPABILITY).orElse(new AreaEffectItemWrapper(stack)).getAreaEffectBlocks(event.getTarget().getBlockPos(), player);
-
+        World world = player.level;
+        updateCache(world, player, stack, event.getTarget());
+        if (cachedBlocks.length == 0) {
+            return;
+        }
         WorldRenderer worldRender = event.getContext();
         MatrixStack matrix = event.getMatrix();
         IVertexBuilder vertexBuilder = worldRender.renderBuffers.bufferSource().getBuffer(RenderType.lines());
         Entity viewEntity = renderInfo.getEntity();
-        World world = player.level;
 
         Vector3d vec3d = renderInfo.getPosition();
         double d0 = vec3d.x();
@@ -67,10 +85,8 @@ public class AreaEffectClientEvents {
         double d2 = vec3d.z();
 
         matrix.pushPose();
-        for (BlockPos pos : areaBlocks) {
-            if (world.getWorldBorder().isWithinBounds(pos)) {
-                worldRender.renderHitOutline(matrix, vertexBuilder, viewEntity, d0, d1, d2, pos, world.getBlockState(pos));
-            }
+        for (int i = 0; i < cachedBlocks.length; ++i) {
+            worldRender.renderHitOutline(matrix, vertexBuilder, viewEntity, d0, d1, d2, cachedBlocks[i], cachedStates[i]);
         }
         matrix.popPose();
 
@@ -81,11 +97,62 @@ public class AreaEffectClientEvents {
         if (!validAreaEffectMiningItem(stack)) {
             return;
         }
-        drawBlockDamageTexture(controller, event.getContext(), event.getMatrix(), Minecraft.getInstance().gameRenderer.getMainCamera(), player.getCommandSenderWorld(), areaBlocks);
+        drawBlockDamageTexture(controller, event.getContext(), event.getMatrix(), Minecraft.getInstance().gameRenderer.getMainCamera(), player.getCommandSenderWorld(), cachedBlocks, cachedStates);
+    }
+
+    @SubscribeEvent
+    public static void handleLoggedOutEvent(ClientPlayerNetworkEvent.LoggedOutEvent event) {
+
+        clearCache();
     }
 
     // region HELPERS
-    private static void drawBlockDamageTexture(PlayerController controller, WorldRenderer worldRender, MatrixStack matrixStackIn, ActiveRenderInfo renderInfo, World world, List<BlockPos> areaBlocks) {
+    private static void updateCache(World world, PlayerEntity player, ItemStack stack, BlockRayTraceResult target) {
+
+        CompoundNBT tag = stack.getTag();
+        int tagHash = tag == null ? 0 : tag.hashCode();
+        long targetPos = target.getBlockPos().asLong();
+        boolean sneaking = player.isSecondaryUseActive();
+        long time = world.getGameTime();
+
+        if (stack == cachedStack && tagHash == cachedTagHash && targetPos == cachedTarget && target.getDirection() == cachedFace && sneaking == cachedSneaking && time == cachedTime && world == cachedWorld) {
+            return;
+        }
+        long[] areaBlocks = stack.getCapability(AREA_EFFECT_ITEM_CAPABILITY).orElseGet(() -> new AreaEffectItemWrapper(stack)).getAreaEffectPositions(target.getBlockPos(), player);
+
+        BlockPos[] blocks = new BlockPos[areaBlocks.length];
+        BlockState[] states = new BlockState[areaBlocks.length];
+        int count = 0;
+        for (long areaPos : areaBlocks) {
+            BlockPos pos = BlockPos.of(areaPos);
+            if (world.getWorldBorder().isWithinBounds(pos)) {
+                blocks[count] = pos;
+                states[count] = world.getBlockState(pos);
+                ++count;
+            }
+        }
+        cachedBlocks = count == blocks.length ? blocks : Arrays.copyOf(blocks, count);
+        cachedStates = count == states.length ? states : Arrays.copyOf(states, count);
+
+        cachedStack = stack;
+        cachedTagHash = tagHash;
+        cachedTarget = targetPos;
+        cachedFace = target.getDirection();
+        cachedSneaking = sneaking;
+        cachedTime = time;
+        cachedWorld = world;
+    }
+
+    private static void clearCache() {
+
+        cachedStack = ItemStack.EMPTY;
+        cachedTime = Long.MIN_VALUE;
+        cachedWorld = null;
+        cachedBlocks = new BlockPos[0];
+        cachedStates = new BlockState[0];
+    }
+
+    private static void drawBlockDamageTexture(PlayerController controller, WorldRenderer worldRender, MatrixStack matrixStackIn, ActiveRenderInfo renderInfo, World world, BlockPos[] areaBlocks, BlockState[] areaStates) {
 
         double d0 = renderInfo.getPosition().x;
         double d1 = renderInfo.getPosition().y;
@@ -100,12 +167,13 @@ public class AreaEffectClientEvents {
         BlockRendererDispatcher dispatcher = Minecraft.getInstance().getBlockRenderer();
         IVertexBuilder vertexBuilder = worldRender.renderBuffers.crumblingBufferSource().getBuffer(ModelBakery.DESTROY_TYPES.get(progress));
 
-        for (BlockPos pos : areaBlocks) {
+        for (int i = 0; i < areaBlocks.length; ++i) {
+            BlockPos pos = areaBlocks[i];
             matrixStackIn.pushPose();
             matrixStackIn.translate((double) pos.getX() - d0, (double) pos.getY() - d1, (double) pos.getZ() - d2);
             MatrixStack.Entry matrixEntry = matrixStackIn.last();
             IVertexBuilder matrixBuilder = new MatrixApplyingVertexBuilder(vertexBuilder, matrixEntry.pose(), matrixEntry.normal());
-            dispatcher.renderBreakingTexture(world.getBlockState(pos), pos, world, matrixStackIn, matrixBuilder);
+            dispatcher.renderBreakingTexture(areaStates[i], pos, world, matrixStackIn, matrixBuilder);
             matrixStackIn.popPose();
         }
     }
@@ -2,6 +2,7 @@ package cofh.core.event;
 
 import cofh.lib.capability.templates.AreaEffectItemWrapper;
 import cofh.lib.util.Utils;
+import cofh.lib.util.helpers.AreaHarvestHelper;
 import com.google.common.collect.ImmutableList;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import net.minecraft.block.BlockState;
@@ -15,6 +16,7 @@ import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.IBlockReader;
 import net.minecraft.world.World;
 import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.UseHoeEvent;
 import net.minecraftforge.event.world.BlockEvent;
@@ -23,7 +25,6 @@ import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 
-import java.util.List;
 import java.util.Set;
 
 import static cofh.lib.capability.CapabilityAreaEffect.AREA_EFFECT_ITEM_CAPABILITY;
@@ -58,14 +59,15 @@ public class AreaEffectEvents {
         if (!validAreaEffectMiningItem(stack)) {
             return;
         }
-        ImmutableList<BlockPos> areaBlocks = stack.getCapability(AREA_EFFECT_ITEM_CAPABILITY).orElse(new AreaEffectItemWrapper(stack)).getAreaEffectBlocks(event.getPos(), player);
-        ServerPlayerEntity playerMP = (ServerPlayerEntity) player;
-        // TODO: Revisit if performance issues show. This is the most *proper* way to handle this, but is not particularly friendly.
-        for (BlockPos pos : areaBlocks) {
-            if (stack.isEmpty()) {
-                break;
-            }
-            playerMP.gameMode.destroyBlock(pos);
+        long[] areaBlocks = stack.getCapability(AREA_EFFECT_ITEM_CAPABILITY).orElse(new AreaEffectItemWrapper(stack)).getAreaEffectPositions(event.getPos(), player);
+        AreaHarvestHelper.harvestArea((ServerPlayerEntity) player, stack, event.getPos(), areaBlocks);
+    }
+
+    @SubscribeEvent (priority = EventPriority.HIGHEST)
+    public static void handleEntityJoinWorldEvent(EntityJoinWorldEvent event) {
+
+        if (AreaHarvestHelper.captureDrop(event.getEntity())) {
+            event.setCanceled(true);
         }
     }
 
@@ -80,13 +82,13 @@ public class AreaEffectEvents {
         if (!validAreaEffectMiningItem(stack)) {
             return;
         }
-        ImmutableList<BlockPos> areaBlocks = stack.getCapability(AREA_EFFECT_ITEM_CAPABILITY).orElse(new AreaEffectItemWrapper(stack)).getAreaEffectBlocks(event.getPos(), player);
+        long[] areaBlocks = stack.getCapability(AREA_EFFECT_ITEM_CAPABILITY).orElse(new AreaEffectItemWrapper(stack)).getAreaEffectPositions(event.getPos(), player);
 
         float curHardness = event.getState().getDestroySpeed(player.level, event.getPos());
-        if (curHardness <= 0 || areaBlocks.size() <= 1) {
+        if (curHardness <= 0 || areaBlocks.length <= 1) {
             return;
         }
-        float areaMod = MathHelper.clamp(1.0F - 0.01F * areaBlocks.size(), 0.1F, 1.0F);
+        float areaMod = MathHelper.clamp(1.0F - 0.01F * areaBlocks.length, 0.1F, 1.0F);
         event.setNewSpeed(event.getNewSpeed() * areaMod);
 
         float maxHardness = getMaxHardness(player.level, areaBlocks, curHardness);
@@ -160,12 +162,14 @@ public class AreaEffectEvents {
     }
 
     // region HELPERS
-    private static float getMaxHardness(IBlockReader world, List<BlockPos> areaBlocks, float curHardness) {
+    private static float getMaxHardness(IBlockReader world, long[] areaBlocks, float curHardness) {
 
         float maxHardness = curHardness;
         float testHardness;
+        BlockPos.Mutable pos = new BlockPos.Mutable();
 
-        for (BlockPos pos : areaBlocks) {
+        for (long areaPos : areaBlocks) {
+            pos.set(areaPos);
             testHardness = world.getBlockState(pos).getDestroySpeed(world, pos);
             if (testHardness > maxHardness) {
                 maxHardness = testHardness;
@@ -1,16 +1,18 @@
 package cofh.core.event;
 
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.inventory.EquipmentSlotType;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.potion.Effect;
 import net.minecraft.potion.EffectInstance;
 import net.minecraft.util.DamageSource;
 import net.minecraftforge.event.entity.living.LivingAttackEvent;
+import net.minecraftforge.event.entity.living.LivingEquipmentChangeEvent;
 import net.minecraftforge.event.entity.living.LivingFallEvent;
 import net.minecraftforge.event.entity.living.PotionEvent;
 import net.minecraftforge.eventbus.api.Event;
@@ -18,7 +20,9 @@ import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import static cofh.lib.util.constants.Constants.ID_COFH_CORE;
 import static cofh.lib.util.references.CoreReferences.CHILLED;
@@ -98,6 +102,14 @@ public class ArmorEvents {
         }
     }
 
+    @SubscribeEvent
+    public static void handleEquipmentChangeEvent(LivingEquipmentChangeEvent event) {
+
+        if (event.getSlot().getType() == EquipmentSlotType.Group.ARMOR) {
+            RESISTANCE_CACHE.remove(event.getEntityLiving());
+        }
+    }
+
     // TODO: Is this necessary? Applicable should cover it.
     //    @SubscribeEvent(priority = EventPriority.HIGH)
     //    public static void handlePotionAddedEvent(PotionEvent.PotionAddedEvent event) {
@@ -128,56 +140,92 @@ public class ArmorEvents {
         }
     }
 
-    private static double getFallResistance(Entity entity) {
+    private static double getFallResistance(LivingEntity entity) {
 
-        double ret = 0.0D;
-        for (ItemStack armor : entity.getArmorSlots()) {
-            ret += FALL_RESISTANCE_MAP.getOrDefault(armor.getItem(), 0.0D);
-        }
-        return ret;
+        return getResistances(entity)[FALL];
     }
 
-    private static double getHazardResistance(Entity entity) {
+    private static double getHazardResistance(LivingEntity entity) {
 
-        double ret = 0.0D;
-        for (ItemStack armor : entity.getArmorSlots()) {
-            ret += HAZARD_RESISTANCE_MAP.getOrDefault(armor.getItem(), 0.0D);
+        return getResistances(entity)[HAZARD];
+    }
+
+    private static double getStingResistance(LivingEntity entity) {
+
+        return getResistances(entity)[STING];
+    }
+
+    /**
+     * Summed resistances of the entity's worn armor. Cached per entity on the server, where LivingEquipmentChangeEvent
+     * invalidates it; computed directly on the client.
+     */
+    private static double[] getResistances(LivingEntity entity) {
+
+        if (FALL_RESISTANCE_MAP.isEmpty() && HAZARD_RESISTANCE_MAP.isEmpty() && STING_RESISTANCE_MAP.isEmpty()) {
+            return NO_RESISTANCE;
+        }
+        if (entity.level.isClientSide) {
+            return computeResistances(entity);
+        }
+        double[] ret = RESISTANCE_CACHE.get(entity);
+        if (ret == null) {
+            ret = computeResistances(entity);
+            RESISTANCE_CACHE.put(entity, ret);
         }
         return ret;
     }
 
-    private static double getStingResistance(Entity entity) {
+    private static double[] computeResistances(LivingEntity entity) {
 
-        double ret = 0.0D;
+        double fall = 0.0D;
+        double hazard = 0.0D;
+        double sting = 0.0D;
         for (ItemStack armor : entity.getArmorSlots()) {
-            ret += STING_RESISTANCE_MAP.getOrDefault(armor.getItem(), 0.0D);
+            Item item = armor.getItem();
+            fall += FALL_RESISTANCE_MAP.getDouble(item);
+            hazard += HAZARD_RESISTANCE_MAP.getDouble(item);
+            sting += STING_RESISTANCE_MAP.getDouble(item);
         }
-        return ret;
+        if (fall == 0.0D && hazard == 0.0D && sting == 0.0D) {
+            return NO_RESISTANCE;
+        }
+        return new double[]{fall, hazard, sting};
     }
     // endregion
 
     public static void registerFallResistArmor(Item armor, double resistance) {
 
         FALL_RESISTANCE_MAP.put(armor, resistance);
+        RESISTANCE_CACHE.clear();
     }
 
     public static void registerHazardResistArmor(Item armor, double resistance) {
 
         HAZARD_RESISTANCE_MAP.put(armor, resistance);
+        RESISTANCE_CACHE.clear();
     }
 
     public static void registerStingResistArmor(Item armor, double resistance) {
 
         STING_RESISTANCE_MAP.put(armor, resistance);
+        RESISTANCE_CACHE.clear();
     }
 
-    private static final Object2ObjectOpenHashMap<Item, Double> FALL_RESISTANCE_MAP = new Object2ObjectOpenHashMap<>();
+    private static final int FALL = 0;
+    private static final int HAZARD = 1;
+    private static final int STING = 2;
+    private static final double[] NO_RESISTANCE = new double[3];
+
+    // Server thread only.
+    private static final Map<LivingEntity, double[]> RESISTANCE_CACHE = new WeakHashMap<>();
+
+    private static final Object2DoubleOpenHashMap<Item> FALL_RESISTANCE_MAP = new Object2DoubleOpenHashMap<>();
 
-    private static final Object2ObjectOpenHashMap<Item, Double> HAZARD_RESISTANCE_MAP = new Object2ObjectOpenHashMap<>();
+    private static final Object2DoubleOpenHashMap<Item> HAZARD_RESISTANCE_MAP = new Object2DoubleOpenHashMap<>();
     private static final Set<String> HAZARD_DAMAGE_TYPES = new ObjectOpenHashSet<>();
     private static final Set<Effect> HAZARD_EFFECTS = new ObjectOpenHashSet<>();
 
-    private static final Object2ObjectOpenHashMap<Item, Double> STING_RESISTANCE_MAP = new Object2ObjectOpenHashMap<>();
+    private static final Object2DoubleOpenHashMap<Item> STING_RESISTANCE_MAP = new Object2DoubleOpenHashMap<>();
     private static final Set<String> STING_DAMAGE_TYPES = new ObjectOpenHashSet<>();
 
     public static void setup() {
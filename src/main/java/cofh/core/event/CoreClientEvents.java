@@ -1,6 +1,7 @@
 package cofh.core.event;
 
 import cofh.core.init.CoreConfig;
+import cofh.lib.util.OwnerRegistry;
 import cofh.lib.util.Utils;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import net.minecraft.block.Block;
@@ -13,6 +14,7 @@ import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.text.IFormattableTextComponent;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.client.event.RenderTooltipEvent;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.ItemTooltipEvent;
@@ -153,4 +155,10 @@ public class CoreClientEvents {
         }
     }
 
+    @SubscribeEvent
+    public static void handleLoggedOutEvent(ClientPlayerNetworkEvent.LoggedOutEvent event) {
+
+        OwnerRegistry.clearClient();
+    }
+
 }
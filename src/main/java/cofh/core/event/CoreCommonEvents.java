@@ -1,26 +1,43 @@
 package cofh.core.event;
 
 import cofh.core.init.CoreConfig;
+import cofh.core.util.control.TransferScheduler;
+import cofh.lib.capability.templates.TimedBlockStorage;
+import cofh.lib.enchantment.EnchantmentLevelCache;
+import cofh.lib.network.PlayerSpatialIndex;
+import cofh.lib.util.BlockExpiryScheduler;
+import cofh.lib.util.OwnerRegistry;
 import cofh.lib.util.Utils;
 import cofh.lib.util.helpers.XpHelper;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.item.ExperienceOrbEntity;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.inventory.EquipmentSlotType;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.vector.Vector3d;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.common.util.FakePlayer;
+import net.minecraftforge.event.AttachCapabilitiesEvent;
 import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.living.LivingEquipmentChangeEvent;
 import net.minecraftforge.event.entity.living.LivingFallEvent;
 import net.minecraftforge.event.entity.player.ItemFishedEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerXpEvent;
 import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.event.world.SaplingGrowTreeEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.server.FMLServerStoppedEvent;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
 
 import java.util.Map;
 
@@ -34,6 +51,8 @@ import static net.minecraft.enchantment.Enchantments.MENDING;
 @Mod.EventBusSubscriber (modid = ID_COFH_CORE)
 public class CoreCommonEvents {
 
+    private static final ResourceLocation ID_TIMED_BLOCKS = new ResourceLocation(ID_COFH_CORE, "timed_blocks");
+
     private CoreCommonEvents() {
 
     }
@@ -140,6 +159,61 @@ public class CoreCommonEvents {
 
         if (event.phase == TickEvent.Phase.START) {
             Utils.tickTimeConstants();
+            PlayerSpatialIndex.refresh(ServerLifecycleHooks.getCurrentServer());
+        } else {
+            TransferScheduler.tick();
+        }
+    }
+
+    @SubscribeEvent
+    public static void worldTick(TickEvent.WorldTickEvent event) {
+
+        if (event.phase == TickEvent.Phase.END && event.world instanceof ServerWorld) {
+            BlockExpiryScheduler.tick((ServerWorld) event.world);
+        }
+    }
+
+    @SubscribeEvent
+    public static void attachChunkCapabilities(AttachCapabilitiesEvent<Chunk> event) {
+
+        event.addCapability(ID_TIMED_BLOCKS, new TimedBlockStorage(event.getObject()));
+    }
+
+    @SubscribeEvent
+    public static void chunkLoad(ChunkEvent.Load event) {
+
+        if (event.getWorld() instanceof ServerWorld && event.getChunk() instanceof Chunk) {
+            BlockExpiryScheduler.onChunkLoad((ServerWorld) event.getWorld(), (Chunk) event.getChunk());
+        }
+    }
+
+    @SubscribeEvent
+    public static void worldUnload(WorldEvent.Unload event) {
+
+        BlockExpiryScheduler.unload(event.getWorld());
+    }
+
+    @SubscribeEvent
+    public static void handleEquipmentChangeEvent(LivingEquipmentChangeEvent event) {
+
+        EnchantmentLevelCache.invalidate(event.getEntityLiving());
+    }
+
+    @SubscribeEvent
+    public static void serverStopped(FMLServerStoppedEvent event) {
+
+        PlayerSpatialIndex.clear();
+        OwnerRegistry.clearServer();
+        TransferScheduler.clear();
+        BlockExpiryScheduler.clear();
+        EnchantmentLevelCache.clear();
+    }
+
+    @SubscribeEvent
+    public static void handlePlayerLoggedInEvent(PlayerEvent.PlayerLoggedInEvent event) {
+
+        if (event.getPlayer() instanceof ServerPlayerEntity) {
+            OwnerRegistry.onPlayerLogin((ServerPlayerEntity) event.getPlayer());
         }
     }
 
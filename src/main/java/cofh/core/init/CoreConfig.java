@@ -1,7 +1,9 @@
 package cofh.core.init;
 
 import cofh.core.command.*;
+import cofh.core.util.control.TransferScheduler;
 import cofh.lib.enchantment.EnchantmentCoFH;
+import cofh.lib.util.helpers.AreaHarvestHelper;
 import net.minecraftforge.common.ForgeConfigSpec;
 import net.minecraftforge.common.ForgeConfigSpec.BooleanValue;
 import net.minecraftforge.common.ForgeConfigSpec.DoubleValue;
@@ -60,6 +62,9 @@ public class CoreConfig {
         permissionIgnite = SERVER_CONFIG
                 .comment("The required permission level for the '/cofh ignite' command.")
                 .defineInRange("Ignite Permission Level", SubCommandIgnite.permissionLevel, 0, 4);
+        permissionNetStats = SERVER_CONFIG
+                .comment("The required permission level for the '/cofh netstats' command.")
+                .defineInRange("NetStats Permission Level", SubCommandNetStats.permissionLevel, 0, 4);
         permissionRepair = SERVER_CONFIG
                 .comment("The required permission level for the '/cofh repair' command.")
                 .defineInRange("Repair Permission Level", SubCommandRepair.permissionLevel, 0, 4);
@@ -79,6 +84,22 @@ public class CoreConfig {
 
         SERVER_CONFIG.pop();
 
+        SERVER_CONFIG.push("Area Effects");
+
+        serverAreaDropsToInventory = SERVER_CONFIG
+                .comment("If TRUE, drops from area-effect tools (Hammers, Excavators, etc.) go directly into the player's inventory where possible.")
+                .define("Area Drops To Inventory", AreaHarvestHelper.dropsToInventory);
+
+        SERVER_CONFIG.pop();
+
+        SERVER_CONFIG.push("Performance");
+
+        serverTransferBudget = SERVER_CONFIG
+                .comment("The maximum number of scheduled auto-transfer tiles serviced per tick. Any remaining tiles are serviced on the following tick.")
+                .defineInRange("Auto-Transfer Budget", TransferScheduler.budget, 1, Integer.MAX_VALUE);
+
+        SERVER_CONFIG.pop();
+
         SERVER_CONFIG.push("World");
 
         serverEnableSaplingGrowthMod = SERVER_CONFIG
@@ -166,6 +187,7 @@ public class CoreConfig {
         SubCommandEnderChest.permissionLevel = permissionEnderChest.get();
         SubCommandHeal.permissionLevel = permissionHeal.get();
         SubCommandIgnite.permissionLevel = permissionIgnite.get();
+        SubCommandNetStats.permissionLevel = permissionNetStats.get();
         SubCommandRepair.permissionLevel = permissionRepair.get();
 
         refreshEnchantmentConfig();
@@ -175,6 +197,10 @@ public class CoreConfig {
 
         enableSaplingGrowthMod = serverEnableSaplingGrowthMod.get();
         amountSaplingGrowthMod = serverAmountSaplingGrowthMod.get();
+
+        AreaHarvestHelper.dropsToInventory = serverAreaDropsToInventory.get();
+
+        TransferScheduler.budget = serverTransferBudget.get();
     }
 
     private static void refreshClientConfig() {
@@ -206,6 +232,7 @@ public class CoreConfig {
     public static IntValue permissionEnderChest;
     public static IntValue permissionHeal;
     public static IntValue permissionIgnite;
+    public static IntValue permissionNetStats;
     public static IntValue permissionRepair;
 
     public static boolean improvedFeatherFalling = true;
@@ -235,6 +262,10 @@ public class CoreConfig {
     private static BooleanValue serverEnableSaplingGrowthMod;
     private static IntValue serverAmountSaplingGrowthMod;
 
+    private static BooleanValue serverAreaDropsToInventory;
+
+    private static IntValue serverTransferBudget;
+
     private static BooleanValue clientEnableEnchantmentDescriptions;
     private static BooleanValue clientEnableFoodDescriptions;
     private static BooleanValue clientEnableItemDescriptions;
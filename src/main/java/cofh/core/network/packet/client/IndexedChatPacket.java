@@ -34,6 +34,12 @@ public class IndexedChatPacket extends PacketBase implements IPacketClient {
         buf.writeUtf(message);
     }
 
+    @Override
+    public boolean decodeOnNetworkThread() {
+
+        return true;
+    }
+
     @Override
     public void read(PacketBuffer buf) {
 
@@ -0,0 +1,75 @@
+package cofh.core.network.packet.client;
+
+import cofh.core.CoFHCore;
+import cofh.lib.network.packet.IPacketClient;
+import cofh.lib.network.packet.PacketBase;
+import cofh.lib.util.OwnerRegistry;
+import com.mojang.authlib.GameProfile;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+
+import java.util.Map;
+
+import static cofh.lib.util.constants.Constants.PACKET_OWNER_TABLE;
+
+public class OwnerTablePacket extends PacketBase implements IPacketClient {
+
+    protected Int2ObjectMap<GameProfile> profiles = new Int2ObjectOpenHashMap<>();
+
+    public OwnerTablePacket() {
+
+        super(PACKET_OWNER_TABLE, CoFHCore.PACKET_HANDLER);
+    }
+
+    @Override
+    public void handleClient() {
+
+        for (Int2ObjectMap.Entry<GameProfile> entry : profiles.int2ObjectEntrySet()) {
+            OwnerRegistry.setClientProfile(entry.getIntKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void write(PacketBuffer buf) {
+
+        buf.writeVarInt(profiles.size());
+        for (Int2ObjectMap.Entry<GameProfile> entry : profiles.int2ObjectEntrySet()) {
+            buf.writeVarInt(entry.getIntKey());
+            buf.writeUUID(entry.getValue().getId());
+            buf.writeUtf(entry.getValue().getName());
+        }
+    }
+
+    @Override
+    public boolean decodeOnNetworkThread() {
+
+        return true;
+    }
+
+    @Override
+    public void read(PacketBuffer buf) {
+
+        int count = buf.readVarInt();
+        for (int i = 0; i < count; ++i) {
+            int id = buf.readVarInt();
+            profiles.put(id, new GameProfile(buf.readUUID(), buf.readUtf(1024)));
+        }
+    }
+
+    public static void sendToClients(int id, GameProfile profile) {
+
+        OwnerTablePacket packet = new OwnerTablePacket();
+        packet.profiles.put(id, profile);
+        packet.sendToClients();
+    }
+
+    public static void sendToPlayer(Map<Integer, GameProfile> profiles, ServerPlayerEntity player) {
+
+        OwnerTablePacket packet = new OwnerTablePacket();
+        packet.profiles.putAll(profiles);
+        packet.sendToPlayer(player);
+    }
+
+}
@@ -34,6 +34,12 @@ public class PlayerMotionPacket extends PacketBase implements IPacketClient {
         buf.writeDouble(motionZ);
     }
 
+    @Override
+    public boolean decodeOnNetworkThread() {
+
+        return true;
+    }
+
     @Override
     public void read(PacketBuffer buf) {
 
@@ -7,7 +7,6 @@ import cofh.lib.network.packet.IPacketClient;
 import cofh.lib.network.packet.PacketBase;
 import cofh.lib.tileentity.ITilePacketHandler;
 import cofh.lib.util.Utils;
-import io.netty.buffer.Unpooled;
 import net.minecraft.block.BlockState;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
@@ -64,8 +63,9 @@ public class TileControlPacket extends PacketBase implements IPacketClient {
         }
         TileControlPacket packet = new TileControlPacket();
         packet.pos = tile.pos();
-        packet.buffer = tile.getControlPacket(new PacketBuffer(Unpooled.buffer()));
+        packet.buffer = tile.getControlPacket(packet.leaseBuffer());
         packet.sendToAllAround(packet.pos, NETWORK_UPDATE_DISTANCE, tile.world().dimension());
+        packet.release();
     }
 
 }
@@ -7,6 +7,7 @@ import cofh.lib.network.packet.IPacketClient;
 import cofh.lib.network.packet.PacketBase;
 import cofh.lib.tileentity.ITilePacketHandler;
 import cofh.lib.util.Utils;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.network.PacketBuffer;
@@ -14,6 +15,8 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
+import javax.annotation.Nullable;
+
 import static cofh.lib.util.constants.Constants.PACKET_GUI;
 
 public class TileGuiPacket extends PacketBase implements IPacketClient {
@@ -61,8 +64,36 @@ public class TileGuiPacket extends PacketBase implements IPacketClient {
         }
         TileGuiPacket packet = new TileGuiPacket();
         packet.pos = tile.pos();
-        packet.buffer = tile.getGuiPacket(new PacketBuffer(Unpooled.buffer()));
+        packet.buffer = tile.getGuiPacket(packet.leaseBuffer());
         packet.sendToPlayer(player);
+        packet.release();
+    }
+
+    /**
+     * Sends the tile's GUI data only if it differs from the previous payload sent to this player.
+     *
+     * @param previous The payload last sent to the player, or null if none has been sent.
+     * @return The payload the player now has.
+     */
+    @Nullable
+    public static byte[] sendToClientIfChanged(TileCoFH tile, ServerPlayerEntity player, @Nullable byte[] previous) {
+
+        if (tile.world() == null || Utils.isClientWorld(tile.world())) {
+            return previous;
+        }
+        TileGuiPacket packet = new TileGuiPacket();
+        packet.pos = tile.pos();
+        packet.buffer = tile.getGuiPacket(packet.leaseBuffer());
+        try {
+            if (previous != null && ByteBufUtil.equals(Unpooled.wrappedBuffer(previous), packet.buffer)) {
+                return previous;
+            }
+            byte[] current = ByteBufUtil.getBytes(packet.buffer);
+            packet.sendToPlayer(player);
+            return current;
+        } finally {
+            packet.release();
+        }
     }
 
 }
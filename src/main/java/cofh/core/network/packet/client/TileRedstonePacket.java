@@ -7,7 +7,6 @@ import cofh.lib.network.packet.IPacketClient;
 import cofh.lib.network.packet.PacketBase;
 import cofh.lib.tileentity.ITilePacketHandler;
 import cofh.lib.util.Utils;
-import io.netty.buffer.Unpooled;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
@@ -61,8 +60,9 @@ public class TileRedstonePacket extends PacketBase implements IPacketClient {
         }
         TileRedstonePacket packet = new TileRedstonePacket();
         packet.pos = tile.pos();
-        packet.buffer = tile.getRedstonePacket(new PacketBuffer(Unpooled.buffer()));
+        packet.buffer = tile.getRedstonePacket(packet.leaseBuffer());
         packet.sendToAllAround(packet.pos, NETWORK_UPDATE_DISTANCE, tile.world().dimension());
+        packet.release();
     }
 
 }
@@ -7,7 +7,6 @@ import cofh.lib.network.packet.IPacketClient;
 import cofh.lib.network.packet.PacketBase;
 import cofh.lib.tileentity.ITilePacketHandler;
 import cofh.lib.util.Utils;
-import io.netty.buffer.Unpooled;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
@@ -64,8 +63,9 @@ public class TileRenderPacket extends PacketBase implements IPacketClient {
         }
         TileRenderPacket packet = new TileRenderPacket();
         packet.pos = tile.pos();
-        packet.buffer = tile.getRenderPacket(new PacketBuffer(Unpooled.buffer()));
+        packet.buffer = tile.getRenderPacket(packet.leaseBuffer());
         packet.sendToAllAround(packet.pos, NETWORK_UPDATE_DISTANCE, tile.world().dimension());
+        packet.release();
     }
 
 }
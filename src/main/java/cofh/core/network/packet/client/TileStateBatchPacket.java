@@ -0,0 +1,85 @@
+package cofh.core.network.packet.client;
+
+import cofh.core.CoFHCore;
+import cofh.core.util.ProxyUtils;
+import cofh.lib.network.packet.IPacketClient;
+import cofh.lib.network.packet.PacketBase;
+import cofh.lib.tileentity.ITilePacketHandler;
+import net.minecraft.block.BlockState;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static cofh.lib.util.constants.Constants.PACKET_STATE_BATCH;
+
+/**
+ * Carries the state of every dirty tile in a single chunk, built once per tick by the PacketHandler.
+ */
+public class TileStateBatchPacket extends PacketBase implements IPacketClient {
+
+    protected final List<BlockPos> positions = new ArrayList<>();
+    protected final List<PacketBuffer> buffers = new ArrayList<>();
+
+    public TileStateBatchPacket() {
+
+        super(PACKET_STATE_BATCH, CoFHCore.PACKET_HANDLER);
+    }
+
+    @Override
+    public void handleClient() {
+
+        World world = ProxyUtils.getClientWorld();
+        if (world == null) {
+            CoFHCore.LOG.error("Client world is null! (Is this being called on the server?)");
+            return;
+        }
+        for (int i = 0; i < positions.size(); ++i) {
+            BlockPos pos = positions.get(i);
+            TileEntity tile = world.getBlockEntity(pos);
+            if (tile instanceof ITilePacketHandler) {
+                ((ITilePacketHandler) tile).handleStatePacket(buffers.get(i));
+                BlockState state = world.getBlockState(pos);
+                world.sendBlockUpdated(pos, state, state, 3);
+            }
+        }
+    }
+
+    @Override
+    public void write(PacketBuffer buf) {
+
+        buf.writeVarInt(positions.size());
+        for (int i = 0; i < positions.size(); ++i) {
+            PacketBuffer buffer = buffers.get(i);
+            buf.writeBlockPos(positions.get(i));
+            buf.writeVarInt(buffer.readableBytes());
+            buf.writeBytes(buffer, buffer.readerIndex(), buffer.readableBytes());
+        }
+    }
+
+    @Override
+    public void read(PacketBuffer buf) {
+
+        int count = buf.readVarInt();
+        for (int i = 0; i < count; ++i) {
+            positions.add(buf.readBlockPos());
+            buffers.add(new PacketBuffer(buf.readSlice(buf.readVarInt())));
+        }
+    }
+
+    public static TileStateBatchPacket create(List<TileEntity> tiles) {
+
+        TileStateBatchPacket packet = new TileStateBatchPacket();
+        for (TileEntity tile : tiles) {
+            if (tile instanceof ITilePacketHandler) {
+                packet.positions.add(tile.getBlockPos());
+                packet.buffers.add(((ITilePacketHandler) tile).getStatePacket(packet.leaseBuffer()));
+            }
+        }
+        return packet;
+    }
+
+}
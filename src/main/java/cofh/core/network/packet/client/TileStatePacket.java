@@ -7,7 +7,6 @@ import cofh.lib.network.packet.IPacketClient;
 import cofh.lib.network.packet.PacketBase;
 import cofh.lib.tileentity.ITilePacketHandler;
 import cofh.lib.util.Utils;
-import io.netty.buffer.Unpooled;
 import net.minecraft.block.BlockState;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
@@ -59,13 +58,25 @@ public class TileStatePacket extends PacketBase implements IPacketClient {
 
     public static void sendToClient(TileCoFH tile) {
 
+        if (tile.world() == null || Utils.isClientWorld(tile.world())) {
+            return;
+        }
+        if (CoFHCore.PACKET_HANDLER.markStateDirty(tile)) {
+            return;
+        }
+        sendToClientImmediate(tile);
+    }
+
+    public static void sendToClientImmediate(TileCoFH tile) {
+
         if (tile.world() == null || Utils.isClientWorld(tile.world())) {
             return;
         }
         TileStatePacket packet = new TileStatePacket();
         packet.pos = tile.pos();
-        packet.buffer = tile.getStatePacket(new PacketBuffer(Unpooled.buffer()));
+        packet.buffer = tile.getStatePacket(packet.leaseBuffer());
         packet.sendToAllAround(packet.pos, NETWORK_UPDATE_DISTANCE, tile.world().dimension());
+        packet.release();
     }
 
 }
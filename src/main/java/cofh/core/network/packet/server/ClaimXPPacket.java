@@ -44,6 +44,12 @@ public class ClaimXPPacket extends PacketBase implements IPacketServer {
         buf.writeBlockPos(pos);
     }
 
+    @Override
+    public boolean decodeOnNetworkThread() {
+
+        return true;
+    }
+
     @Override
     public void read(PacketBuffer buf) {
 
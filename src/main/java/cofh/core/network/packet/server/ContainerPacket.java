@@ -4,7 +4,6 @@ import cofh.core.CoFHCore;
 import cofh.lib.inventory.container.ContainerCoFH;
 import cofh.lib.network.packet.IPacketServer;
 import cofh.lib.network.packet.PacketBase;
-import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.network.PacketBuffer;
 
@@ -42,8 +41,9 @@ public class ContainerPacket extends PacketBase implements IPacketServer {
     public static void sendToServer(ContainerCoFH container) {
 
         ContainerPacket packet = new ContainerPacket();
-        packet.buffer = container.getContainerPacket(new PacketBuffer(Unpooled.buffer()));
+        packet.buffer = container.getContainerPacket(packet.leaseBuffer());
         packet.sendToServer();
+        packet.release();
     }
 
 }
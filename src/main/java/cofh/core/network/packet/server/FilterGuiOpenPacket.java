@@ -49,6 +49,12 @@ public class FilterGuiOpenPacket extends PacketBase implements IPacketServer {
         buf.writeByte(mode);
     }
 
+    @Override
+    public boolean decodeOnNetworkThread() {
+
+        return true;
+    }
+
     @Override
     public void read(PacketBuffer buf) {
 
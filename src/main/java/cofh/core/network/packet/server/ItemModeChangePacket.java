@@ -35,6 +35,12 @@ public class ItemModeChangePacket extends PacketBase implements IPacketServer {
         buf.writeBoolean(decr);
     }
 
+    @Override
+    public boolean decodeOnNetworkThread() {
+
+        return true;
+    }
+
     @Override
     public void read(PacketBuffer buf) {
 
@@ -45,6 +45,12 @@ public class RedstoneControlPacket extends PacketBase implements IPacketServer {
         buf.writeByte(mode);
     }
 
+    @Override
+    public boolean decodeOnNetworkThread() {
+
+        return true;
+    }
+
     @Override
     public void read(PacketBuffer buf) {
 
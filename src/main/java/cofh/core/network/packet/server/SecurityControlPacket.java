@@ -43,6 +43,12 @@ public class SecurityControlPacket extends PacketBase implements IPacketServer {
         buf.writeByte(mode);
     }
 
+    @Override
+    public boolean decodeOnNetworkThread() {
+
+        return true;
+    }
+
     @Override
     public void read(PacketBuffer buf) {
 
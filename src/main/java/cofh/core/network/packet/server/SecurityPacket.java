@@ -33,6 +33,12 @@ public class SecurityPacket extends PacketBase implements IPacketServer {
         buf.writeByte(mode);
     }
 
+    @Override
+    public boolean decodeOnNetworkThread() {
+
+        return true;
+    }
+
     @Override
     public void read(PacketBuffer buf) {
 
@@ -49,6 +49,12 @@ public class SideConfigPacket extends PacketBase implements IPacketServer {
         buf.writeByteArray(bSides);
     }
 
+    @Override
+    public boolean decodeOnNetworkThread() {
+
+        return true;
+    }
+
     @Override
     public void read(PacketBuffer buf) {
 
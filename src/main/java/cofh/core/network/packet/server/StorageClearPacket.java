@@ -56,6 +56,12 @@ public class StorageClearPacket extends PacketBase implements IPacketServer {
         buf.writeInt(storageIndex);
     }
 
+    @Override
+    public boolean decodeOnNetworkThread() {
+
+        return true;
+    }
+
     @Override
     public void read(PacketBuffer buf) {
 
@@ -5,7 +5,6 @@ import cofh.core.tileentity.TileCoFH;
 import cofh.lib.network.packet.IPacketServer;
 import cofh.lib.network.packet.PacketBase;
 import cofh.lib.tileentity.ITilePacketHandler;
-import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
@@ -55,8 +54,9 @@ public class TileConfigPacket extends PacketBase implements IPacketServer {
 
         TileConfigPacket packet = new TileConfigPacket();
         packet.pos = tile.pos();
-        packet.buffer = tile.getConfigPacket(new PacketBuffer(Unpooled.buffer()));
+        packet.buffer = tile.getConfigPacket(packet.leaseBuffer());
         packet.sendToServer();
+        packet.release();
     }
 
 }
@@ -44,6 +44,12 @@ public class TransferControlPacket extends PacketBase implements IPacketServer {
         buf.writeBoolean(transferOut);
     }
 
+    @Override
+    public boolean decodeOnNetworkThread() {
+
+        return true;
+    }
+
     @Override
     public void read(PacketBuffer buf) {
 
@@ -1,41 +1,17 @@
 package cofh.core.tileentity;
 
-import net.minecraft.block.Blocks;
-import net.minecraft.tileentity.ITickableTileEntity;
-import net.minecraft.tileentity.TileEntity;
-
 import static cofh.lib.util.references.CoreReferences.GLOW_AIR_TILE;
 
-public class GlowAirTile extends TileEntity implements ITickableTileEntity {
-
-    protected int duration = 200;
+/**
+ * No longer created by the GlowAirBlock, which keeps its state in the chunk's timed block storage. Retained so the
+ * registered tile type and existing references remain valid.
+ */
+@Deprecated
+public class GlowAirTile extends TimedAirTile {
 
     public GlowAirTile() {
 
-        super(GLOW_AIR_TILE);
-    }
-
-    @Override
-    public void tick() {
-
-        if (level == null) {
-            return;
-        }
-        if (--duration <= 0) {
-            this.level.setBlockAndUpdate(worldPosition, Blocks.AIR.defaultBlockState());
-            this.level.removeBlockEntity(this.worldPosition);
-            this.setRemoved();
-        }
-    }
-
-    public int getDuration() {
-
-        return duration;
-    }
-
-    public void setDuration(int duration) {
-
-        this.duration = duration;
+        super(GLOW_AIR_TILE, 200);
     }
 
 }
@@ -2,47 +2,24 @@ package cofh.core.tileentity;
 
 import cofh.lib.util.Utils;
 import cofh.lib.util.helpers.MathHelper;
-import net.minecraft.block.Blocks;
-import net.minecraft.tileentity.ITickableTileEntity;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.server.ServerWorld;
 
 import static cofh.lib.util.references.CoreReferences.LIGHTNING_AIR_TILE;
 
-public class LightningAirTile extends TileEntity implements ITickableTileEntity {
-
-    protected int duration = 100;
+public class LightningAirTile extends TimedAirTile {
 
     public LightningAirTile() {
 
-        super(LIGHTNING_AIR_TILE);
-        duration = MathHelper.nextInt(MathHelper.RANDOM, 20, duration);
+        super(LIGHTNING_AIR_TILE, MathHelper.nextInt(MathHelper.RANDOM, 20, 100));
     }
 
     @Override
-    public void tick() {
+    public void expire() {
 
-        if (level == null) {
-            return;
-        }
-        if (--duration <= 0) {
-            if (level.canSeeSky(worldPosition) && level instanceof ServerWorld) {
-                Utils.spawnLightningBolt(level, worldPosition, null);
-            }
-            this.level.setBlockAndUpdate(worldPosition, Blocks.AIR.defaultBlockState());
-            this.level.removeBlockEntity(this.worldPosition);
-            this.setRemoved();
+        if (level != null && level.canSeeSky(worldPosition) && level instanceof ServerWorld) {
+            Utils.spawnLightningBolt(level, worldPosition, null);
         }
-    }
-
-    public int getDuration() {
-
-        return duration;
-    }
-
-    public void setDuration(int duration) {
-
-        this.duration = duration;
+        super.expire();
     }
 
 }
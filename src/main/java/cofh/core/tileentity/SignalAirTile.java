@@ -1,53 +1,54 @@
 package cofh.core.tileentity;
 
 import cofh.lib.util.helpers.MathHelper;
-import net.minecraft.block.Blocks;
-import net.minecraft.tileentity.ITickableTileEntity;
-import net.minecraft.tileentity.TileEntity;
+import net.minecraft.block.BlockState;
+import net.minecraft.nbt.CompoundNBT;
 
+import static cofh.lib.util.constants.NBTTags.TAG_RS_POWER;
 import static cofh.lib.util.references.CoreReferences.SIGNAL_AIR_TILE;
 
-public class SignalAirTile extends TileEntity implements ITickableTileEntity {
+/**
+ * No longer created by the SignalAirBlock, which keeps its state in the chunk's timed block storage. Retained so the
+ * registered tile type and existing references remain valid.
+ */
+@Deprecated
+public class SignalAirTile extends TimedAirTile {
 
-    protected int duration = 200;
     protected int power = 15;
 
     public SignalAirTile() {
 
-        super(SIGNAL_AIR_TILE);
+        super(SIGNAL_AIR_TILE, 200);
     }
 
-    @Override
-    public void tick() {
+    public int getPower() {
 
-        if (level == null) {
-            return;
-        }
-        if (--duration <= 0) {
-            this.level.setBlockAndUpdate(worldPosition, Blocks.AIR.defaultBlockState());
-            this.level.removeBlockEntity(this.worldPosition);
-            this.setRemoved();
-        }
+        return power;
     }
 
-    public int getDuration() {
+    public void setPower(int power) {
 
-        return duration;
+        this.power = MathHelper.clamp(power, 0, 15);
     }
 
-    public int getPower() {
-
-        return power;
-    }
+    // region NBT
+    @Override
+    public void load(BlockState state, CompoundNBT nbt) {
 
-    public void setDuration(int duration) {
+        super.load(state, nbt);
 
-        this.duration = duration;
+        if (nbt.contains(TAG_RS_POWER)) {
+            power = nbt.getByte(TAG_RS_POWER);
+        }
     }
 
-    public void setPower(int power) {
+    @Override
+    public CompoundNBT save(CompoundNBT nbt) {
 
-        this.power = MathHelper.clamp(power, 0, 15);
-    }
+        super.save(nbt);
 
+        nbt.putByte(TAG_RS_POWER, (byte) power);
+        return nbt;
+    }
+    // endregion
 }
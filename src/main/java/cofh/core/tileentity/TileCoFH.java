@@ -2,8 +2,10 @@ package cofh.core.tileentity;
 
 import cofh.core.network.packet.client.TileGuiPacket;
 import cofh.core.util.ProxyUtils;
+import cofh.core.util.control.*;
 import cofh.core.util.helpers.FluidHelper;
 import cofh.lib.tileentity.IAreaEffectTile;
+import cofh.lib.tileentity.NeighborCapabilityCache;
 import cofh.lib.tileentity.ITileCallback;
 import cofh.lib.tileentity.ITilePacketHandler;
 import cofh.lib.tileentity.ITileXpHandler;
@@ -29,11 +31,22 @@ import net.minecraftforge.common.util.FakePlayer;
 import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
 
 import javax.annotation.Nullable;
+import java.util.Map;
 import java.util.Random;
+import java.util.WeakHashMap;
+
+import static cofh.lib.util.constants.Constants.*;
+import static cofh.lib.util.constants.NBTTags.TAG_SYNC;
 
 public class TileCoFH extends TileEntity implements ITileCallback, ITilePacketHandler, ITileXpHandler, IConveyableData {
 
     protected int numPlayersUsing;
+    protected int syncSections = SYNC_ALL;
+
+    // Last GUI payload sent through each open container; a new container always gets a full send.
+    protected final Map<Container, byte[]> guiPayloads = new WeakHashMap<>();
+
+    protected NeighborCapabilityCache neighborCache;
 
     public TileCoFH(TileEntityType<?> tileEntityTypeIn) {
 
@@ -53,6 +66,9 @@ public class TileCoFH extends TileEntity implements ITileCallback, ITilePacketHa
                 ProxyUtils.addAreaEffectTile((IAreaEffectTile) this);
             }
         }
+        if (this instanceof ITransferControllableTile) {
+            ((ITransferControllableTile) this).transferControl().onLoad();
+        }
         clearRemoved();
     }
 
@@ -62,9 +78,24 @@ public class TileCoFH extends TileEntity implements ITileCallback, ITilePacketHa
         if (this instanceof IAreaEffectTile) {
             ProxyUtils.removeAreaEffectTile((IAreaEffectTile) this);
         }
+        if (neighborCache != null) {
+            neighborCache.invalidate();
+        }
+        if (this instanceof ITransferControllableTile) {
+            ((ITransferControllableTile) this).transferControl().onUnload();
+        }
         super.setRemoved();
     }
 
+    @Override
+    public void onChunkUnloaded() {
+
+        if (this instanceof ITransferControllableTile) {
+            ((ITransferControllableTile) this).transferControl().onUnload();
+        }
+        super.onChunkUnloaded();
+    }
+
     public int getPlayersUsing() {
 
         return numPlayersUsing;
@@ -87,7 +118,7 @@ public class TileCoFH extends TileEntity implements ITileCallback, ITilePacketHa
     public void sendGuiNetworkData(Container container, IContainerListener player) {
 
         if (hasGuiPacket() && player instanceof ServerPlayerEntity && (!(player instanceof FakePlayer))) {
-            TileGuiPacket.sendToClient(this, (ServerPlayerEntity) player);
+            guiPayloads.put(container, TileGuiPacket.sendToClientIfChanged(this, (ServerPlayerEntity) player, guiPayloads.get(container)));
         }
     }
 
@@ -152,6 +183,32 @@ public class TileCoFH extends TileEntity implements ITileCallback, ITilePacketHa
         return null;
     }
 
+    // Phase-offset by position, so tiles doing periodic work do not all fire on the same tick.
+    protected boolean timeCheck() {
+
+        return Utils.timeCheck(level, worldPosition);
+    }
+
+    protected boolean timeCheckHalf() {
+
+        return Utils.timeCheckHalf(level, worldPosition);
+    }
+
+    protected boolean timeCheckQuarter() {
+
+        return Utils.timeCheckQuarter(level, worldPosition);
+    }
+
+    public void invalidateNeighborCache(BlockPos fromPos) {
+
+        if (neighborCache != null) {
+            neighborCache.invalidate(fromPos);
+        }
+        if (this instanceof ITransferControllableTile) {
+            ((ITransferControllableTile) this).transferControl().wake();
+        }
+    }
+
     protected void markDirtyFast() {
 
         if (this.level != null) {
@@ -172,9 +229,16 @@ public class TileCoFH extends TileEntity implements ITileCallback, ITilePacketHa
     @Override
     public SUpdateTileEntityPacket getUpdatePacket() {
 
-        return new SUpdateTileEntityPacket(worldPosition, 0, getUpdateTag());
+        // Nothing marked means the update came from elsewhere (e.g. a block state change); send everything.
+        int sections = hasSyncSections() && syncSections != 0 ? syncSections : SYNC_ALL;
+        CompoundNBT nbt = new CompoundNBT();
+        nbt.putByte(TAG_SYNC, (byte) sections);
+        writeSyncSections(nbt, sections);
+        syncSections = 0;
+        return new SUpdateTileEntityPacket(worldPosition, 0, nbt);
     }
 
+    // Chunk sends always carry the full tile; only block updates are delta-encoded.
     @Override
     public CompoundNBT getUpdateTag() {
 
@@ -184,7 +248,103 @@ public class TileCoFH extends TileEntity implements ITileCallback, ITilePacketHa
     @Override
     public void onDataPacket(NetworkManager net, SUpdateTileEntityPacket pkt) {
 
-        load(this.blockState, pkt.getTag());
+        CompoundNBT nbt = pkt.getTag();
+        readSyncSections(nbt, nbt.getByte(TAG_SYNC));
+    }
+
+    /**
+     * Whether block updates may be delta-encoded. Tiles which return TRUE must implement the inventory and tank section
+     * methods as needed, and mark SYNC_ALL for any state outside of the sections; everything else always sends a full
+     * save.
+     */
+    protected boolean hasSyncSections() {
+
+        return false;
+    }
+
+    /**
+     * Writes the changed sections of this tile for a block update packet.
+     * A full save is sent for SYNC_ALL; otherwise just the dirty control modules, inventory and tanks are written.
+     */
+    protected CompoundNBT writeSyncSections(CompoundNBT nbt, int sections) {
+
+        if ((sections & SYNC_ALL) == SYNC_ALL) {
+            return this.save(nbt);
+        }
+        writeControlSections(nbt, sections);
+        if ((sections & SYNC_INVENTORY) != 0) {
+            writeInventorySection(nbt);
+        }
+        if ((sections & SYNC_TANKS) != 0) {
+            writeTankSection(nbt);
+        }
+        return nbt;
+    }
+
+    protected void readSyncSections(CompoundNBT nbt, int sections) {
+
+        if ((sections & SYNC_ALL) == SYNC_ALL) {
+            load(this.blockState, nbt);
+            return;
+        }
+        readControlSections(nbt, sections);
+        if ((sections & SYNC_INVENTORY) != 0) {
+            readInventorySection(nbt);
+        }
+        if ((sections & SYNC_TANKS) != 0) {
+            readTankSection(nbt);
+        }
+    }
+
+    protected CompoundNBT writeInventorySection(CompoundNBT nbt) {
+
+        return nbt;
+    }
+
+    protected void readInventorySection(CompoundNBT nbt) {
+
+    }
+
+    protected CompoundNBT writeTankSection(CompoundNBT nbt) {
+
+        return nbt;
+    }
+
+    protected void readTankSection(CompoundNBT nbt) {
+
+    }
+
+    protected CompoundNBT writeControlSections(CompoundNBT nbt, int sections) {
+
+        if ((sections & SYNC_RECONFIG) != 0 && this instanceof IReconfigurableTile) {
+            ((IReconfigurableTile) this).reconfigControl().write(nbt);
+        }
+        if ((sections & SYNC_REDSTONE) != 0 && this instanceof IRedstoneControllableTile) {
+            ((IRedstoneControllableTile) this).redstoneControl().write(nbt);
+        }
+        if ((sections & SYNC_TRANSFER) != 0 && this instanceof ITransferControllableTile) {
+            ((ITransferControllableTile) this).transferControl().write(nbt);
+        }
+        if ((sections & SYNC_SECURITY) != 0 && this instanceof ISecurableTile) {
+            ((ISecurableTile) this).securityControl().write(nbt);
+        }
+        return nbt;
+    }
+
+    protected void readControlSections(CompoundNBT nbt, int sections) {
+
+        if ((sections & SYNC_RECONFIG) != 0 && this instanceof IReconfigurableTile) {
+            ((IReconfigurableTile) this).reconfigControl().read(nbt);
+        }
+        if ((sections & SYNC_REDSTONE) != 0 && this instanceof IRedstoneControllableTile) {
+            ((IRedstoneControllableTile) this).redstoneControl().read(nbt);
+        }
+        if ((sections & SYNC_TRANSFER) != 0 && this instanceof ITransferControllableTile) {
+            ((ITransferControllableTile) this).transferControl().read(nbt);
+        }
+        if ((sections & SYNC_SECURITY) != 0 && this instanceof ISecurableTile) {
+            ((ISecurableTile) this).securityControl().read(nbt);
+        }
     }
     // endregion
 
@@ -212,5 +372,40 @@ public class TileCoFH extends TileEntity implements ITileCallback, ITilePacketHa
 
         return level;
     }
+
+    // Only tiles which auto-transfer keep a cache; everything else looks neighbors up as needed.
+    @Nullable
+    @Override
+    public NeighborCapabilityCache neighborCache() {
+
+        if (neighborCache == null && this instanceof ITransferControllableTile) {
+            neighborCache = new NeighborCapabilityCache(this);
+        }
+        return neighborCache;
+    }
+
+    @Override
+    public void markSyncDirty(int sections) {
+
+        syncSections |= sections;
+    }
+
+    @Override
+    public void onInventoryChanged(int slot) {
+
+        markSyncDirty(SYNC_INVENTORY);
+        if (this instanceof ITransferControllableTile) {
+            ((ITransferControllableTile) this).transferControl().wake();
+        }
+    }
+
+    @Override
+    public void onTankChanged(int tank) {
+
+        markSyncDirty(SYNC_TANKS);
+        if (this instanceof ITransferControllableTile) {
+            ((ITransferControllableTile) this).transferControl().wake();
+        }
+    }
     // endregion
 }
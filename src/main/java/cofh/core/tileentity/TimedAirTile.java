@@ -0,0 +1,104 @@
+package cofh.core.tileentity;
+
+import cofh.lib.tileentity.ITimedTile;
+import cofh.lib.util.BlockExpiryScheduler;
+import cofh.lib.util.Utils;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.tileentity.TileEntityType;
+
+import static cofh.lib.util.constants.NBTTags.TAG_EXPIRY;
+
+/**
+ * Base for the temporary "air" tiles. These do not tick; the expiry is an absolute game time, persisted with the tile
+ * and handed to the BlockExpiryScheduler whenever the tile is loaded.
+ */
+public abstract class TimedAirTile extends TileEntity implements ITimedTile {
+
+    protected int duration;
+    protected long expiry = -1;
+
+    public TimedAirTile(TileEntityType<?> tileEntityTypeIn, int duration) {
+
+        super(tileEntityTypeIn);
+        this.duration = duration;
+    }
+
+    @Override
+    public void onLoad() {
+
+        super.onLoad();
+        schedule();
+    }
+
+    public int getDuration() {
+
+        if (expiry < 0 || level == null) {
+            return duration;
+        }
+        return (int) Math.max(0, expiry - level.getGameTime());
+    }
+
+    public void setDuration(int duration) {
+
+        this.duration = duration;
+        this.expiry = -1;
+        schedule();
+    }
+
+    protected void schedule() {
+
+        if (level == null || Utils.isClientWorld(level)) {
+            return;
+        }
+        if (expiry < 0) {
+            expiry = level.getGameTime() + duration;
+            setChanged();
+        }
+        BlockExpiryScheduler.schedule(level, worldPosition, expiry);
+    }
+
+    // region NBT
+    @Override
+    public void load(BlockState state, CompoundNBT nbt) {
+
+        super.load(state, nbt);
+
+        if (nbt.contains(TAG_EXPIRY)) {
+            expiry = nbt.getLong(TAG_EXPIRY);
+        }
+    }
+
+    @Override
+    public CompoundNBT save(CompoundNBT nbt) {
+
+        super.save(nbt);
+
+        if (expiry >= 0) {
+            nbt.putLong(TAG_EXPIRY, expiry);
+        }
+        return nbt;
+    }
+    // endregion
+
+    // region ITimedTile
+    @Override
+    public long getExpiry() {
+
+        return expiry;
+    }
+
+    @Override
+    public void expire() {
+
+        if (level == null) {
+            return;
+        }
+        level.setBlockAndUpdate(worldPosition, Blocks.AIR.defaultBlockState());
+        level.removeBlockEntity(worldPosition);
+        setRemoved();
+    }
+    // endregion
+}
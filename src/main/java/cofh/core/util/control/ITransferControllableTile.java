@@ -2,11 +2,25 @@ package cofh.core.util.control;
 
 import cofh.lib.tileentity.ITileCallback;
 import cofh.lib.util.control.ITransferControllable;
+import net.minecraft.util.Direction;
 
 public interface ITransferControllableTile extends ITransferControllable, ITileCallback {
 
     TransferControlModule transferControl();
 
+    /**
+     * Auto-transfer hooks, called by the TransferScheduler if the module is scheduled. Return TRUE if anything moved.
+     */
+    default boolean attemptTransferIn(Direction side) {
+
+        return false;
+    }
+
+    default boolean attemptTransferOut(Direction side) {
+
+        return false;
+    }
+
     // region ITransferControl
     @Override
     default boolean hasTransferIn() {
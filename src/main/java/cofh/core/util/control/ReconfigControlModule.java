@@ -1,6 +1,7 @@
 package cofh.core.util.control;
 
 import cofh.core.network.packet.server.SideConfigPacket;
+import cofh.lib.network.ControlCodec;
 import cofh.lib.util.Utils;
 import cofh.lib.util.control.IReconfigurable;
 import cofh.lib.util.helpers.BlockHelper;
@@ -10,6 +11,7 @@ import net.minecraft.util.Direction;
 
 import java.util.function.BooleanSupplier;
 
+import static cofh.lib.util.constants.Constants.SYNC_RECONFIG;
 import static cofh.lib.util.constants.Constants.TRUE;
 import static cofh.lib.util.constants.NBTTags.TAG_SIDES;
 import static cofh.lib.util.control.IReconfigurable.SideConfig.SIDE_ACCESSIBLE;
@@ -78,24 +80,19 @@ public class ReconfigControlModule implements IReconfigurable {
     public void setSideConfig(SideConfig[] sides) {
 
         this.sides = sides;
+        tile.markSyncDirty(SYNC_RECONFIG);
         tile.onControlUpdate();
     }
 
     // region NETWORK
     public void readFromBuffer(PacketBuffer buffer) {
 
-        facing = Direction.from3DDataValue(buffer.readByte());
-        for (int i = 0; i < 6; ++i) {
-            sides[i] = SideConfig.VALUES[buffer.readByte()];
-        }
+        facing = ControlCodec.readSides(buffer, sides);
     }
 
     public void writeToBuffer(PacketBuffer buffer) {
 
-        buffer.writeByte(facing.get3DDataValue());
-        for (int i = 0; i < 6; ++i) {
-            buffer.writeByte(sides[i].ordinal());
-        }
+        ControlCodec.writeSides(buffer, facing, sides);
     }
     // endregion
 
@@ -156,6 +153,7 @@ public class ReconfigControlModule implements IReconfigurable {
 
         this.sides = new SideConfig[]{SIDE_ACCESSIBLE, SIDE_ACCESSIBLE, SIDE_ACCESSIBLE, SIDE_ACCESSIBLE, SIDE_ACCESSIBLE, SIDE_ACCESSIBLE};
         this.sides[facing.ordinal()] = SIDE_NONE;
+        tile.markSyncDirty(SYNC_RECONFIG);
         tile.onControlUpdate();
     }
 
@@ -200,6 +198,7 @@ public class ReconfigControlModule implements IReconfigurable {
         if (Utils.isClientWorld(tile.world())) {
             SideConfigPacket.sendToServer(tile);
         } else {
+            tile.markSyncDirty(SYNC_RECONFIG);
             tile.onControlUpdate();
         }
         return true;
@@ -216,6 +215,7 @@ public class ReconfigControlModule implements IReconfigurable {
         if (Utils.isClientWorld(tile.world())) {
             SideConfigPacket.sendToServer(tile);
         } else {
+            tile.markSyncDirty(SYNC_RECONFIG);
             tile.onControlUpdate();
         }
         return true;
@@ -232,6 +232,7 @@ public class ReconfigControlModule implements IReconfigurable {
         if (Utils.isClientWorld(tile.world())) {
             SideConfigPacket.sendToServer(tile);
         } else {
+            tile.markSyncDirty(SYNC_RECONFIG);
             tile.onControlUpdate();
         }
         return true;
@@ -245,6 +246,7 @@ public class ReconfigControlModule implements IReconfigurable {
         if (Utils.isClientWorld(tile.world())) {
             SideConfigPacket.sendToServer(tile);
         } else {
+            tile.markSyncDirty(SYNC_RECONFIG);
             tile.onControlUpdate();
         }
         return true;
@@ -6,6 +6,7 @@ import net.minecraft.util.Direction;
 
 import java.util.function.BooleanSupplier;
 
+import static cofh.lib.util.constants.Constants.SYNC_RECONFIG;
 import static cofh.lib.util.control.IReconfigurable.SideConfig.*;
 
 public class ReconfigControlModuleLimited extends ReconfigControlModule {
@@ -24,6 +25,7 @@ public class ReconfigControlModuleLimited extends ReconfigControlModule {
     public void disable() {
 
         this.sides = new SideConfig[]{SIDE_NONE, SIDE_NONE, SIDE_NONE, SIDE_NONE, SIDE_NONE, SIDE_NONE};
+        tile.markSyncDirty(SYNC_RECONFIG);
         tile.onControlUpdate();
     }
 
@@ -61,6 +63,7 @@ public class ReconfigControlModuleLimited extends ReconfigControlModule {
         if (Utils.isClientWorld(tile.world())) {
             SideConfigPacket.sendToServer(tile);
         } else {
+            tile.markSyncDirty(SYNC_RECONFIG);
             tile.onControlUpdate();
         }
         return true;
@@ -81,6 +84,7 @@ public class ReconfigControlModuleLimited extends ReconfigControlModule {
         if (Utils.isClientWorld(tile.world())) {
             SideConfigPacket.sendToServer(tile);
         } else {
+            tile.markSyncDirty(SYNC_RECONFIG);
             tile.onControlUpdate();
         }
         return true;
@@ -1,6 +1,7 @@
 package cofh.core.util.control;
 
 import cofh.core.network.packet.server.RedstoneControlPacket;
+import cofh.lib.network.ControlCodec;
 import cofh.lib.util.Utils;
 import cofh.lib.util.control.IRedstoneControllable;
 import net.minecraft.nbt.CompoundNBT;
@@ -8,6 +9,7 @@ import net.minecraft.network.PacketBuffer;
 
 import java.util.function.BooleanSupplier;
 
+import static cofh.lib.util.constants.Constants.SYNC_REDSTONE;
 import static cofh.lib.util.constants.Constants.TRUE;
 import static cofh.lib.util.constants.NBTTags.*;
 
@@ -40,16 +42,15 @@ public class RedstoneControlModule implements IRedstoneControllable {
     // region NETWORK
     public void readFromBuffer(PacketBuffer buffer) {
 
-        power = buffer.readByte();
-        threshold = buffer.readByte();
-        mode = ControlMode.VALUES[buffer.readByte()];
+        int packed = buffer.readUnsignedShort();
+        power = ControlCodec.readPower(packed);
+        threshold = ControlCodec.readThreshold(packed);
+        mode = ControlCodec.readMode(packed);
     }
 
     public void writeToBuffer(PacketBuffer buffer) {
 
-        buffer.writeByte(power);
-        buffer.writeByte(threshold);
-        buffer.writeByte(mode.ordinal());
+        ControlCodec.writeRedstone(buffer, power, threshold, mode);
     }
     // endregion
 
@@ -133,6 +134,9 @@ public class RedstoneControlModule implements IRedstoneControllable {
     @Override
     public void setPower(int power) {
 
+        if (this.power != power) {
+            tile.markSyncDirty(SYNC_REDSTONE);
+        }
         this.power = power;
     }
 
@@ -149,6 +153,7 @@ public class RedstoneControlModule implements IRedstoneControllable {
             this.threshold = curThreshold;
             this.mode = curMode;
         } else {
+            tile.markSyncDirty(SYNC_REDSTONE);
             tile.onControlUpdate();
         }
     }
@@ -1,6 +1,8 @@
 package cofh.core.util.control;
 
 import cofh.core.network.packet.server.SecurityControlPacket;
+import cofh.lib.network.ControlCodec;
+import cofh.lib.util.OwnerRegistry;
 import cofh.lib.util.Utils;
 import cofh.lib.util.control.ISecurable;
 import cofh.lib.util.helpers.SecurityHelper;
@@ -11,6 +13,7 @@ import net.minecraft.network.PacketBuffer;
 import java.util.UUID;
 import java.util.function.BooleanSupplier;
 
+import static cofh.lib.util.constants.Constants.SYNC_SECURITY;
 import static cofh.lib.util.constants.Constants.TRUE;
 import static cofh.lib.util.constants.NBTTags.*;
 
@@ -40,18 +43,18 @@ public class SecurityControlModule implements ISecurable {
     }
 
     // region NETWORK
+
+    // The owner is sent as its interned id, which is only meaningful for this session; NBT always keeps the profile.
     public void readFromBuffer(PacketBuffer buffer) {
 
-        access = AccessMode.VALUES[buffer.readByte()];
-        owner = SecurityHelper.DEFAULT_GAME_PROFILE;
-        setOwner(new GameProfile(buffer.readUUID(), buffer.readUtf(1024)));
+        int packed = buffer.readVarInt();
+        access = ControlCodec.readAccess(packed);
+        owner = OwnerRegistry.getProfile(ControlCodec.readOwnerId(packed), isClientSide());
     }
 
     public void writeToBuffer(PacketBuffer buffer) {
 
-        buffer.writeByte(access.ordinal());
-        buffer.writeUUID(owner.getId());
-        buffer.writeUtf(owner.getName());
+        ControlCodec.writeSecurity(buffer, access, OwnerRegistry.getId(owner, isClientSide()));
     }
     // endregion
 
@@ -116,6 +119,7 @@ public class SecurityControlModule implements ISecurable {
             SecurityControlPacket.sendToServer(tile);
             this.access = curAccess;
         } else {
+            tile.markSyncDirty(SYNC_SECURITY);
             tile.onControlUpdate();
         }
     }
@@ -129,6 +133,7 @@ public class SecurityControlModule implements ISecurable {
         if (SecurityHelper.isDefaultProfile(owner) && !SecurityHelper.isDefaultProfile(profile)) {
             owner = profile;
             if (Utils.isServerWorld(tile.world())) {
+                tile.markSyncDirty(SYNC_SECURITY);
                 tile.onControlUpdate();
             }
             return true;
@@ -136,4 +141,13 @@ public class SecurityControlModule implements ISecurable {
         return false;
     }
     // endregion
+
+    // region HELPERS
+
+    // Tiles may be used before their world is set; that only ever happens on the server.
+    protected boolean isClientSide() {
+
+        return tile.world() != null && tile.world().isClientSide;
+    }
+    // endregion
 }
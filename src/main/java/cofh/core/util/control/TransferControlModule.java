@@ -1,6 +1,7 @@
 package cofh.core.util.control;
 
 import cofh.core.network.packet.server.TransferControlPacket;
+import cofh.lib.network.ControlCodec;
 import cofh.lib.util.Utils;
 import cofh.lib.util.control.ITransferControllable;
 import net.minecraft.nbt.CompoundNBT;
@@ -8,6 +9,7 @@ import net.minecraft.network.PacketBuffer;
 
 import java.util.function.BooleanSupplier;
 
+import static cofh.lib.util.constants.Constants.SYNC_TRANSFER;
 import static cofh.lib.util.constants.Constants.TRUE;
 import static cofh.lib.util.constants.NBTTags.*;
 
@@ -19,6 +21,15 @@ public class TransferControlModule implements ITransferControllable {
     protected boolean enableAutoInput;
     protected boolean enableAutoOutput;
 
+    // Scheduler state; see TransferScheduler.
+    protected boolean scheduled;
+    boolean active;
+    long dueTick = -1;
+    final long[] nextIn = new long[6];
+    final long[] nextOut = new long[6];
+    final byte[] backoffIn = new byte[6];
+    final byte[] backoffOut = new byte[6];
+
     public TransferControlModule(ITransferControllableTile tile) {
 
         this(tile, TRUE);
@@ -36,6 +47,20 @@ public class TransferControlModule implements ITransferControllable {
         return this;
     }
 
+    /**
+     * Hand auto-transfer over to the TransferScheduler, which calls the tile's attemptTransferIn/Out hooks.
+     */
+    public TransferControlModule setScheduled(boolean scheduled) {
+
+        this.scheduled = scheduled;
+        return this;
+    }
+
+    public boolean isScheduled() {
+
+        return scheduled;
+    }
+
     public void disable() {
 
         enableAutoInput = false;
@@ -53,17 +78,43 @@ public class TransferControlModule implements ITransferControllable {
         }
     }
 
+    // region SCHEDULING
+    public void onLoad() {
+
+        if (scheduled && !Utils.isClientWorld(tile.world())) {
+            TransferScheduler.add(this, tile.pos());
+        }
+    }
+
+    public void onUnload() {
+
+        if (scheduled) {
+            TransferScheduler.remove(this);
+        }
+    }
+
+    /**
+     * Resets any backoff; call when the tile's contents or neighbors change.
+     */
+    public void wake() {
+
+        if (scheduled) {
+            TransferScheduler.wake(this);
+        }
+    }
+    // endregion
+
     // region NETWORK
     public void readFromBuffer(PacketBuffer buffer) {
 
-        enableAutoInput = buffer.readBoolean();
-        enableAutoOutput = buffer.readBoolean();
+        int packed = buffer.readUnsignedByte();
+        enableAutoInput = ControlCodec.readFlag(packed, 0);
+        enableAutoOutput = ControlCodec.readFlag(packed, 1);
     }
 
     public void writeToBuffer(PacketBuffer buffer) {
 
-        buffer.writeBoolean(enableAutoInput);
-        buffer.writeBoolean(enableAutoOutput);
+        ControlCodec.writeFlags(buffer, enableAutoInput, enableAutoOutput);
     }
     // endregion
 
@@ -148,6 +199,8 @@ public class TransferControlModule implements ITransferControllable {
             this.enableAutoInput = curInput;
             this.enableAutoOutput = curOutput;
         } else {
+            tile.markSyncDirty(SYNC_TRANSFER);
+            wake();
             tile.onControlUpdate();
         }
     }
@@ -0,0 +1,171 @@
+package cofh.core.util.control;
+
+import cofh.lib.util.Utils;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import static cofh.lib.util.Utils.TIME_CONSTANT;
+import static cofh.lib.util.constants.Constants.DIRECTIONS;
+
+/**
+ * Central scheduler for auto-transfer on tiles whose TransferControlModule opts in via setScheduled().
+ * <p>
+ * Each side backs off exponentially while its transfers fail and drops back to the base interval when something moves
+ * or the tile is woken (inventory or neighbor change). Tiles start on a position-derived phase so they do not all fire
+ * on the same tick, and at most {@link #budget} tiles are serviced per tick - anything left over runs next tick.
+ * <p>
+ * Server thread only.
+ *
+ * @author King Lemming
+ */
+public final class TransferScheduler {
+
+    private TransferScheduler() {
+
+    }
+
+    public static final int BASE_INTERVAL = TIME_CONSTANT;
+    public static final int MAX_BACKOFF = 3;
+
+    public static int budget = 256;
+
+    private static final Long2ObjectOpenHashMap<List<TransferControlModule>> WHEEL = new Long2ObjectOpenHashMap<>();
+    private static final ArrayDeque<TransferControlModule> READY = new ArrayDeque<>();
+    private static long tick;
+
+    public static long getTick() {
+
+        return tick;
+    }
+
+    public static int getInterval(int backoff) {
+
+        return BASE_INTERVAL << backoff;
+    }
+
+    /**
+     * Called on server tick end; services due tiles up to the budget.
+     */
+    public static void tick() {
+
+        ++tick;
+        List<TransferControlModule> due = WHEEL.remove(tick);
+        if (due != null) {
+            READY.addAll(due);
+        }
+        for (int serviced = 0; serviced < budget && !READY.isEmpty(); ) {
+            TransferControlModule module = READY.poll();
+            // Stale entries (rescheduled or unloaded since queueing) are skipped.
+            if (module.dueTick < 0 || module.dueTick > tick) {
+                continue;
+            }
+            run(module);
+            ++serviced;
+        }
+    }
+
+    public static void clear() {
+
+        WHEEL.clear();
+        READY.clear();
+        tick = 0;
+    }
+
+    // region MODULE HOOKS
+    static void add(TransferControlModule module, BlockPos pos) {
+
+        module.active = true;
+        int phase = Utils.getTimePhase(pos) % BASE_INTERVAL;
+        for (int i = 0; i < 6; ++i) {
+            module.backoffIn[i] = 0;
+            module.backoffOut[i] = 0;
+            module.nextIn[i] = tick + 1 + phase;
+            module.nextOut[i] = tick + 1 + phase;
+        }
+        schedule(module, tick + 1 + phase);
+    }
+
+    static void remove(TransferControlModule module) {
+
+        module.active = false;
+        module.dueTick = -1;
+    }
+
+    static void wake(TransferControlModule module) {
+
+        if (!module.active) {
+            return;
+        }
+        long next = Long.MAX_VALUE;
+        for (int i = 0; i < 6; ++i) {
+            module.nextIn[i] = wakeSide(module.nextIn, module.backoffIn, i);
+            module.nextOut[i] = wakeSide(module.nextOut, module.backoffOut, i);
+            next = Math.min(next, Math.min(module.nextIn[i], module.nextOut[i]));
+        }
+        if (module.dueTick < 0 || module.dueTick > next) {
+            schedule(module, next);
+        }
+    }
+    // endregion
+
+    // region HELPERS
+    private static void schedule(TransferControlModule module, long due) {
+
+        due = Math.max(due, tick + 1);
+        module.dueTick = due;
+        List<TransferControlModule> bucket = WHEEL.get(due);
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            WHEEL.put(due, bucket);
+        }
+        bucket.add(module);
+    }
+
+    /**
+     * Drops a side back to the base interval, measured from its last attempt.
+     */
+    private static long wakeSide(long[] next, byte[] backoff, int side) {
+
+        long last = next[side] - getInterval(backoff[side]);
+        backoff[side] = 0;
+        return Math.max(tick + 1, Math.min(next[side], last + BASE_INTERVAL));
+    }
+
+    private static void run(TransferControlModule module) {
+
+        ITransferControllableTile tile = module.tile;
+        boolean input = module.getTransferIn();
+        boolean output = module.getTransferOut();
+        long next = Long.MAX_VALUE;
+
+        for (Direction side : DIRECTIONS) {
+            int i = side.ordinal();
+            if (input) {
+                if (module.nextIn[i] <= tick) {
+                    module.backoffIn[i] = tile.attemptTransferIn(side) ? 0 : (byte) Math.min(module.backoffIn[i] + 1, MAX_BACKOFF);
+                    module.nextIn[i] = tick + getInterval(module.backoffIn[i]);
+                }
+                next = Math.min(next, module.nextIn[i]);
+            }
+            if (output) {
+                if (module.nextOut[i] <= tick) {
+                    module.backoffOut[i] = tile.attemptTransferOut(side) ? 0 : (byte) Math.min(module.backoffOut[i] + 1, MAX_BACKOFF);
+                    module.nextOut[i] = tick + getInterval(module.backoffOut[i]);
+                }
+                next = Math.min(next, module.nextOut[i]);
+            }
+        }
+        if (next == Long.MAX_VALUE) {
+            // Nothing enabled; sleep until woken.
+            module.dueTick = -1;
+        } else {
+            schedule(module, next);
+        }
+    }
+    // endregion
+}
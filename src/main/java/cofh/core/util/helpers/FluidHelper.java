@@ -2,6 +2,8 @@ package cofh.core.util.helpers;
 
 import cofh.core.fluid.PotionFluid;
 import cofh.lib.fluid.FluidStorageCoFH;
+import cofh.lib.tileentity.ITileCallback;
+import cofh.lib.tileentity.NeighborCapabilityCache;
 import cofh.lib.util.helpers.BlockHelper;
 import cofh.lib.util.helpers.ItemHelper;
 import cofh.lib.util.references.FluidTagsCoFH;
@@ -135,10 +137,7 @@ public class FluidHelper {
         if (!tank.getFluidStack().isEmpty()) {
             return extractFromAdjacent(tile, tank, new FluidStack(tank.getFluidStack(), amount), side);
         }
-        TileEntity adjTile = BlockHelper.getAdjacentTileEntity(tile, side);
-        Direction opposite = side.getOpposite();
-
-        IFluidHandler handler = getFluidHandlerCap(adjTile, opposite);
+        IFluidHandler handler = getAdjacentFluidHandler(tile, side);
         if (handler == EmptyFluidHandler.INSTANCE) {
             return false;
         }
@@ -153,10 +152,7 @@ public class FluidHelper {
 
     public static boolean extractFromAdjacent(TileEntity tile, FluidStorageCoFH tank, FluidStack resource, Direction side) {
 
-        TileEntity adjTile = BlockHelper.getAdjacentTileEntity(tile, side);
-        Direction opposite = side.getOpposite();
-
-        IFluidHandler handler = getFluidHandlerCap(adjTile, opposite);
+        IFluidHandler handler = getAdjacentFluidHandler(tile, side);
         if (handler == EmptyFluidHandler.INSTANCE) {
             return false;
         }
@@ -176,10 +172,7 @@ public class FluidHelper {
         }
         amount = Math.min(amount, tank.getAmount());
 
-        TileEntity adjTile = BlockHelper.getAdjacentTileEntity(tile, side);
-        Direction opposite = side.getOpposite();
-
-        IFluidHandler handler = getFluidHandlerCap(adjTile, opposite);
+        IFluidHandler handler = getAdjacentFluidHandler(tile, side);
         if (handler == EmptyFluidHandler.INSTANCE) {
             return false;
         }
@@ -191,6 +184,18 @@ public class FluidHelper {
         return false;
     }
 
+    /**
+     * Fluid handler exposed by the neighbor on the given side, through the tile's neighbor cache if it has one.
+     */
+    public static IFluidHandler getAdjacentFluidHandler(TileEntity tile, Direction side) {
+
+        NeighborCapabilityCache cache = tile instanceof ITileCallback ? ((ITileCallback) tile).neighborCache() : null;
+        if (cache != null) {
+            return cache.getFluidHandler(side);
+        }
+        return getFluidHandlerCap(BlockHelper.getAdjacentTileEntity(tile, side), side.getOpposite());
+    }
+
     public static boolean hasFluidHandlerCap(TileEntity tile, Direction face) {
 
         return tile != null && tile.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, face).isPresent();
@@ -0,0 +1,19 @@
+package cofh.lib.block;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Implemented by blocks whose expiry lives in the chunk's timed block storage rather than a tile entity. Called by the
+ * BlockExpiryScheduler once the stored expiry has passed; the storage entry has already been removed.
+ */
+public interface ITimedBlock {
+
+    default void onExpired(World world, BlockPos pos, BlockState state) {
+
+        world.setBlockAndUpdate(pos, Blocks.AIR.defaultBlockState());
+    }
+
+}
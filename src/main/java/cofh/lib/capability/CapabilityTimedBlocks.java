@@ -0,0 +1,80 @@
+package cofh.lib.capability;
+
+import cofh.lib.capability.templates.TimedBlockStorage;
+import cofh.lib.util.BlockExpiryScheduler;
+import cofh.lib.util.Utils;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorldReader;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.IChunk;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.CapabilityInject;
+import net.minecraftforge.common.capabilities.CapabilityManager;
+
+import javax.annotation.Nullable;
+
+public class CapabilityTimedBlocks {
+
+    private static boolean registered = false;
+
+    @CapabilityInject (ITimedBlockStorage.class)
+    public static Capability<ITimedBlockStorage> TIMED_BLOCK_CAPABILITY = null;
+
+    public static void register() {
+
+        if (registered) {
+            return;
+        }
+        registered = true;
+
+        // Storage is handled by the chunk provider itself (ICapabilitySerializable).
+        CapabilityManager.INSTANCE.register(ITimedBlockStorage.class, NullCapabilityStorage.instance(), () -> new TimedBlockStorage(null));
+    }
+
+    @Nullable
+    public static ITimedBlockStorage get(World world, BlockPos pos) {
+
+        if (TIMED_BLOCK_CAPABILITY == null || !world.hasChunkAt(pos)) {
+            return null;
+        }
+        return get(world.getChunkAt(pos));
+    }
+
+    /**
+     * For readers which are not a full World (e.g. a world generation region); never loads or generates a chunk.
+     */
+    @Nullable
+    public static ITimedBlockStorage get(IWorldReader world, BlockPos pos) {
+
+        if (TIMED_BLOCK_CAPABILITY == null) {
+            return null;
+        }
+        IChunk chunk = world.getChunk(pos.getX() >> 4, pos.getZ() >> 4, ChunkStatus.FULL, false);
+        return chunk instanceof Chunk ? get((Chunk) chunk) : null;
+    }
+
+    @Nullable
+    public static ITimedBlockStorage get(Chunk chunk) {
+
+        return TIMED_BLOCK_CAPABILITY == null ? null : chunk.getCapability(TIMED_BLOCK_CAPABILITY).orElse(null);
+    }
+
+    /**
+     * Records (or replaces) a timed block at the given position and schedules its expiry. Server only.
+     */
+    public static void setTimedBlock(World world, BlockPos pos, int duration, int power) {
+
+        if (Utils.isClientWorld(world)) {
+            return;
+        }
+        ITimedBlockStorage storage = get(world, pos);
+        if (storage != null) {
+            long expiry = world.getGameTime() + duration;
+            storage.put(pos, expiry, power);
+            BlockExpiryScheduler.schedule(world, pos, expiry);
+        }
+    }
+
+}
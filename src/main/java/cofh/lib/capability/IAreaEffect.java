@@ -1,5 +1,6 @@
 package cofh.lib.capability;
 
+import cofh.lib.util.helpers.AreaEffectHelper;
 import com.google.common.collect.ImmutableList;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.util.math.BlockPos;
@@ -14,4 +15,13 @@ public interface IAreaEffect {
 
     ImmutableList<BlockPos> getAreaEffectBlocks(BlockPos pos, PlayerEntity player);
 
+    /**
+     * Same as getAreaEffectBlocks, with positions packed as BlockPos longs. Override this as well if your handling can
+     * produce packed positions directly.
+     */
+    default long[] getAreaEffectPositions(BlockPos pos, PlayerEntity player) {
+
+        return AreaEffectHelper.toPacked(getAreaEffectBlocks(pos, player));
+    }
+
 }
@@ -0,0 +1,37 @@
+package cofh.lib.capability;
+
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Chunk capability holding the expiry time (and an optional 0-15 power value) of timed blocks which do not have
+ * tile entities. Positions may be absolute; only the chunk-local part is used.
+ *
+ * @author King Lemming
+ */
+public interface ITimedBlockStorage {
+
+    boolean isEmpty();
+
+    /**
+     * Absolute game time at which the block at this position expires, or -1 if there is no entry.
+     */
+    long getExpiry(BlockPos pos);
+
+    int getPower(BlockPos pos);
+
+    void put(BlockPos pos, long expiry, int power);
+
+    void remove(BlockPos pos);
+
+    /**
+     * Hands every entry to the consumer, as (absolute position, expiry).
+     */
+    void forEach(long chunkX, long chunkZ, Entry consumer);
+
+    interface Entry {
+
+        void accept(BlockPos pos, long expiry);
+
+    }
+
+}
@@ -0,0 +1,146 @@
+package cofh.lib.capability.templates;
+
+import cofh.lib.capability.ITimedBlockStorage;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.ICapabilitySerializable;
+import net.minecraftforge.common.util.LazyOptional;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static cofh.lib.capability.CapabilityTimedBlocks.TIMED_BLOCK_CAPABILITY;
+import static cofh.lib.util.constants.NBTTags.TAG_EXPIRY;
+import static cofh.lib.util.constants.NBTTags.TAG_TIMED_POS;
+
+/**
+ * Packed primitive map of chunk-local position (x | z << 4 | y << 8) to (expiry << 4 | power).
+ * The map is only allocated once something is stored, so untouched chunks cost one empty object.
+ */
+public class TimedBlockStorage implements ITimedBlockStorage, ICapabilitySerializable<CompoundNBT> {
+
+    private final LazyOptional<ITimedBlockStorage> holder = LazyOptional.of(() -> this);
+
+    @Nullable
+    protected final Chunk chunk;
+    protected Int2LongOpenHashMap entries;
+
+    public TimedBlockStorage(@Nullable Chunk chunk) {
+
+        this.chunk = chunk;
+    }
+
+    protected void markDirty() {
+
+        if (chunk != null) {
+            chunk.setUnsaved(true);
+        }
+    }
+
+    protected static int getKey(BlockPos pos) {
+
+        return (pos.getX() & 15) | (pos.getZ() & 15) << 4 | (pos.getY() & 255) << 8;
+    }
+
+    // region ITimedBlockStorage
+    @Override
+    public boolean isEmpty() {
+
+        return entries == null || entries.isEmpty();
+    }
+
+    @Override
+    public long getExpiry(BlockPos pos) {
+
+        return entries == null || !entries.containsKey(getKey(pos)) ? -1 : entries.get(getKey(pos)) >>> 4;
+    }
+
+    @Override
+    public int getPower(BlockPos pos) {
+
+        return entries == null ? 0 : (int) (entries.get(getKey(pos)) & 15);
+    }
+
+    @Override
+    public void put(BlockPos pos, long expiry, int power) {
+
+        if (entries == null) {
+            entries = new Int2LongOpenHashMap();
+        }
+        entries.put(getKey(pos), expiry << 4 | (power & 15));
+        markDirty();
+    }
+
+    @Override
+    public void remove(BlockPos pos) {
+
+        if (entries != null && entries.containsKey(getKey(pos))) {
+            entries.remove(getKey(pos));
+            markDirty();
+        }
+    }
+
+    @Override
+    public void forEach(long chunkX, long chunkZ, Entry consumer) {
+
+        if (entries == null) {
+            return;
+        }
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (Int2LongMap.Entry entry : entries.int2LongEntrySet()) {
+            int key = entry.getIntKey();
+            pos.set((chunkX << 4) + (key & 15), key >>> 8, (chunkZ << 4) + (key >>> 4 & 15));
+            consumer.accept(pos, entry.getLongValue() >>> 4);
+        }
+    }
+    // endregion
+
+    // region ICapabilitySerializable
+    @Nonnull
+    @Override
+    public <T> LazyOptional<T> getCapability(@Nonnull Capability<T> cap, @Nullable Direction side) {
+
+        return TIMED_BLOCK_CAPABILITY.orEmpty(cap, holder);
+    }
+
+    @Override
+    public CompoundNBT serializeNBT() {
+
+        CompoundNBT nbt = new CompoundNBT();
+        if (isEmpty()) {
+            return nbt;
+        }
+        int[] keys = new int[entries.size()];
+        long[] values = new long[entries.size()];
+        int i = 0;
+        for (Int2LongMap.Entry entry : entries.int2LongEntrySet()) {
+            keys[i] = entry.getIntKey();
+            values[i] = entry.getLongValue();
+            ++i;
+        }
+        nbt.putIntArray(TAG_TIMED_POS, keys);
+        nbt.putLongArray(TAG_EXPIRY, values);
+        return nbt;
+    }
+
+    @Override
+    public void deserializeNBT(CompoundNBT nbt) {
+
+        int[] keys = nbt.getIntArray(TAG_TIMED_POS);
+        long[] values = nbt.getLongArray(TAG_EXPIRY);
+        if (keys.length == 0 || keys.length != values.length) {
+            entries = null;
+            return;
+        }
+        entries = new Int2LongOpenHashMap(keys.length);
+        for (int i = 0; i < keys.length; ++i) {
+            entries.put(keys[i], values[i]);
+        }
+    }
+    // endregion
+}
@@ -0,0 +1,109 @@
+package cofh.lib.enchantment;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.enchantment.Enchantment;
+import net.minecraft.enchantment.EnchantmentHelper;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.inventory.EquipmentSlotType;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.common.util.FakePlayer;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Caches equipped enchantment levels per entity, so hot event handlers do not re-read the NBT of every equipment slot
+ * on every call.
+ * <p>
+ * Entries are kept on the server only and are invalidated on equipment change. As that event only fires for entities
+ * which tick, each entry also remembers the equipped stacks it was computed from and is dropped if any of them has
+ * been swapped out. Fake players are never cached. Single item lookups are not cached; an in-place level change would
+ * not be visible to any cheap validity check.
+ *
+ * @author King Lemming
+ */
+public final class EnchantmentLevelCache {
+
+    private EnchantmentLevelCache() {
+
+    }
+
+    // Server thread only.
+    private static final Map<LivingEntity, EquippedLevels> EQUIPPED_CACHE = new WeakHashMap<>();
+
+    private static final EquipmentSlotType[] SLOTS = EquipmentSlotType.values();
+
+    public static int getItemLevel(Enchantment ench, ItemStack stack) {
+
+        return stack.isEmpty() || !stack.isEnchanted() ? 0 : EnchantmentHelper.getItemEnchantmentLevel(ench, stack);
+    }
+
+    /**
+     * Highest level of the enchantment across the entity's equipment slots which the enchantment applies to.
+     */
+    public static int getEquippedLevel(Enchantment ench, LivingEntity living) {
+
+        if (living.level.isClientSide || living instanceof FakePlayer) {
+            return computeEquippedLevel(ench, living);
+        }
+        EquippedLevels entry = EQUIPPED_CACHE.get(living);
+        if (entry == null || !entry.isCurrent(living)) {
+            entry = new EquippedLevels(living);
+            EQUIPPED_CACHE.put(living, entry);
+        }
+        int level = entry.levels.getInt(ench);
+        if (level < 0) {
+            level = computeEquippedLevel(ench, living);
+            entry.levels.put(ench, level);
+        }
+        return level;
+    }
+
+    public static void invalidate(LivingEntity living) {
+
+        if (!living.level.isClientSide) {
+            EQUIPPED_CACHE.remove(living);
+        }
+    }
+
+    public static void clear() {
+
+        EQUIPPED_CACHE.clear();
+    }
+
+    // region HELPERS
+    private static int computeEquippedLevel(Enchantment ench, LivingEntity living) {
+
+        int ret = 0;
+        for (ItemStack stack : ench.getSlotItems(living).values()) {
+            ret = Math.max(ret, getItemLevel(ench, stack));
+        }
+        return ret;
+    }
+
+    private static class EquippedLevels {
+
+        final ItemStack[] stacks = new ItemStack[SLOTS.length];
+        final Object2IntOpenHashMap<Enchantment> levels = new Object2IntOpenHashMap<>();
+
+        EquippedLevels(LivingEntity living) {
+
+            for (int i = 0; i < SLOTS.length; ++i) {
+                stacks[i] = living.getItemBySlot(SLOTS[i]);
+            }
+            levels.defaultReturnValue(-1);
+        }
+
+        boolean isCurrent(LivingEntity living) {
+
+            for (int i = 0; i < SLOTS.length; ++i) {
+                if (living.getItemBySlot(SLOTS[i]) != stacks[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+    // endregion
+}
@@ -0,0 +1,210 @@
+package cofh.lib.inventory;
+
+import cofh.lib.util.IInventoryCallback;
+import cofh.lib.util.helpers.InventoryHelper;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.block.Block;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraftforge.items.IItemHandler;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+import static cofh.lib.util.helpers.ItemHelper.cloneStack;
+import static cofh.lib.util.helpers.ItemHelper.itemsEqualWithTags;
+
+/**
+ * Moves items between a list of CoFH Item Storage objects and a foreign IItemHandler in a single planned pass.
+ * <p>
+ * Each transfer builds a plan first and then commits it, and fires at most one inventory callback per batch - with
+ * the position (within the given list) of the first slot which changed.
+ *
+ * @author King Lemming
+ */
+public final class BulkItemTransfer {
+
+    private BulkItemTransfer() {
+
+    }
+
+    /**
+     * Pulls up to the given amount of items out of the source and into the given slots.
+     *
+     * @return Number of items moved.
+     */
+    public static int pull(@Nonnull IItemHandler source, @Nonnull List<ItemStorageCoFH> slots, int amount, @Nullable IInventoryCallback callback) {
+
+        return pull(source, slots, amount, callback, null);
+    }
+
+    /**
+     * Pulls up to the given amount of items out of the source and into the given slots.
+     * <p>
+     * Should the source or the slots change between planning and committing, anything extracted which fits nowhere
+     * is dropped at the given tile (if there is one).
+     *
+     * @return Number of items moved.
+     */
+    public static int pull(@Nonnull IItemHandler source, @Nonnull List<ItemStorageCoFH> slots, int amount, @Nullable IInventoryCallback callback, @Nullable TileEntity tile) {
+
+        if (amount <= 0 || slots.isEmpty()) {
+            return 0;
+        }
+        // PLAN - simulated extraction from each source slot, matched against the local slots' planned contents.
+        int[] planned = new int[slots.size()];
+        ItemStack[] plannedItems = new ItemStack[slots.size()];
+        IntArrayList plan = new IntArrayList();     // (source slot, local slot, count) triples
+
+        int remaining = amount;
+        for (int i = 0; i < source.getSlots() && remaining > 0; ++i) {
+            ItemStack query = source.extractItem(i, remaining, true);
+            if (query.isEmpty()) {
+                continue;
+            }
+            for (int j = 0; j < slots.size() && !query.isEmpty(); ++j) {
+                int accepted = planInsert(slots.get(j), query, planned[j], plannedItems[j]);
+                if (accepted > 0) {
+                    if (plannedItems[j] == null) {
+                        plannedItems[j] = query;
+                    }
+                    planned[j] += accepted;
+                    plan.add(i);
+                    plan.add(j);
+                    plan.add(accepted);
+                    remaining -= accepted;
+                    query = cloneStack(query, query.getCount() - accepted);
+                }
+            }
+        }
+        // COMMIT
+        int moved = 0;
+        int firstChanged = -1;
+        for (int k = 0; k < plan.size(); k += 3) {
+            int local = plan.getInt(k + 1);
+            ItemStack extracted = source.extractItem(plan.getInt(k), plan.getInt(k + 2), false);
+            if (extracted.isEmpty()) {
+                continue;
+            }
+            ItemStack ret = slots.get(local).insertItem(0, extracted, false);
+            for (int j = 0; j < slots.size() && !ret.isEmpty(); ++j) {
+                if (j == local) {
+                    continue;
+                }
+                int count = ret.getCount();
+                ret = slots.get(j).insertItem(0, ret, false);
+                if (ret.getCount() != count && (firstChanged < 0 || j < firstChanged)) {
+                    firstChanged = j;
+                }
+            }
+            moved += extracted.getCount() - ret.getCount();
+            if (!ret.isEmpty()) {
+                returnToSource(source, plan.getInt(k), ret, tile);
+            }
+            if (firstChanged < 0 || local < firstChanged) {
+                firstChanged = local;
+            }
+        }
+        if (callback != null && firstChanged >= 0) {
+            callback.onInventoryChanged(firstChanged);
+        }
+        return moved;
+    }
+
+    /**
+     * Pushes up to the given amount of items out of the given slots and into the target.
+     * <p>
+     * Identical stacks across slots are merged, so the target sees one insertion per distinct item. The insertion
+     * result is authoritative, so no separate simulate pass is made against the target.
+     *
+     * @return Number of items moved.
+     */
+    public static int push(@Nonnull List<ItemStorageCoFH> slots, @Nonnull IItemHandler target, int amount, @Nullable IInventoryCallback callback) {
+
+        if (amount <= 0 || slots.isEmpty()) {
+            return 0;
+        }
+        // PLAN - group local slots by item, within the amount budget.
+        List<ItemStack> groups = new ArrayList<>();
+        List<IntArrayList> groupSlots = new ArrayList<>();
+
+        int remaining = amount;
+        for (int j = 0; j < slots.size() && remaining > 0; ++j) {
+            ItemStack stack = slots.get(j).getItemStack();
+            if (stack.isEmpty()) {
+                continue;
+            }
+            int count = Math.min(stack.getCount(), remaining);
+            int group = 0;
+            while (group < groups.size() && !itemsEqualWithTags(groups.get(group), stack)) {
+                ++group;
+            }
+            if (group == groups.size()) {
+                groups.add(cloneStack(stack, count));
+                groupSlots.add(new IntArrayList(2));
+            } else {
+                groups.get(group).grow(count);
+            }
+            groupSlots.get(group).add(j);
+            remaining -= count;
+        }
+        // COMMIT
+        int moved = 0;
+        int firstChanged = -1;
+        for (int group = 0; group < groups.size(); ++group) {
+            ItemStack request = groups.get(group);
+            int requested = request.getCount();
+            int accepted = requested - InventoryHelper.insertStackIntoInventory(target, request, false).getCount();
+            moved += accepted;
+
+            IntArrayList locals = groupSlots.get(group);
+            for (int k = 0; k < locals.size() && accepted > 0; ++k) {
+                int local = locals.getInt(k);
+                ItemStorageCoFH slot = slots.get(local);
+                int drained = Math.min(accepted, slot.getCount());
+                slot.modify(-drained);
+                accepted -= drained;
+                if (firstChanged < 0 || local < firstChanged) {
+                    firstChanged = local;
+                }
+            }
+        }
+        if (callback != null && firstChanged >= 0) {
+            callback.onInventoryChanged(firstChanged);
+        }
+        return moved;
+    }
+
+    // region HELPERS
+    private static void returnToSource(IItemHandler source, int sourceSlot, ItemStack stack, @Nullable TileEntity tile) {
+
+        stack = source.insertItem(sourceSlot, stack, false);
+        if (!stack.isEmpty()) {
+            stack = InventoryHelper.insertStackIntoInventory(source, stack, false);
+        }
+        if (!stack.isEmpty() && tile != null && tile.getLevel() != null) {
+            Block.popResource(tile.getLevel(), tile.getBlockPos(), stack);
+        }
+    }
+
+    /**
+     * How many of the given stack the slot would accept on top of what is already planned for it.
+     */
+    private static int planInsert(ItemStorageCoFH slot, ItemStack stack, int planned, @Nullable ItemStack plannedItem) {
+
+        if (planned > 0 && slot.isEmpty()) {
+            // Slot is empty but already claimed by the plan; it takes only that item, up to its stack limit.
+            if (!itemsEqualWithTags(plannedItem, stack)) {
+                return 0;
+            }
+            int limit = Math.min(slot.getSlotLimit(0), stack.getMaxStackSize());
+            return Math.max(0, Math.min(stack.getCount(), limit - planned));
+        }
+        ItemStack query = cloneStack(stack, stack.getCount() + planned);
+        int accepted = query.getCount() - slot.insertItem(0, query, true).getCount() - planned;
+        return Math.max(0, Math.min(accepted, stack.getCount()));
+    }
+    // endregion
+}
@@ -0,0 +1,148 @@
+package cofh.lib.inventory;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.item.ItemStack;
+
+import javax.annotation.Nonnull;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Index from Item (plus tag hash) to the slots currently holding it, along with a bitset of empty slots.
+ * <p>
+ * Shared by every handler of an inventory. Each covered storage object reports its own Item changes, so the index
+ * stays exact as long as every mutation goes through the storage (insertItem, extractItem, consume, modify,
+ * setItemStack, clear, read). Changing a stored ItemStack directly (shrinking it to nothing, editing its tag) is not
+ * reported; call {@link #update(ItemStorageCoFH)} afterwards if that is ever done. Stale candidates found during a
+ * lookup are corrected as they are seen.
+ *
+ * @author King Lemming
+ */
+public class ItemSlotIndex {
+
+    protected final List<ItemStorageCoFH> slots;
+    protected final Reference2IntOpenHashMap<ItemStorageCoFH> positions;
+    protected final Int2ObjectOpenHashMap<IntArrayList> slotsByKey = new Int2ObjectOpenHashMap<>();
+    protected final BitSet free = new BitSet();
+    protected final int[] keys;
+
+    public ItemSlotIndex(@Nonnull List<ItemStorageCoFH> slots) {
+
+        this.slots = slots;
+        this.positions = new Reference2IntOpenHashMap<>(slots.size());
+        this.positions.defaultReturnValue(-1);
+        this.keys = new int[slots.size()];
+
+        for (int i = 0; i < slots.size(); ++i) {
+            positions.put(slots.get(i), i);
+            slots.get(i).setIndex(this);
+        }
+        rebuild();
+    }
+
+    public static int getKey(ItemStack stack) {
+
+        return stack.getTag() == null ? stack.getItem().hashCode() : 31 * stack.getItem().hashCode() + stack.getTag().hashCode();
+    }
+
+    public int size() {
+
+        return keys.length;
+    }
+
+    /**
+     * Position of the given storage object within the index, or -1 if it is not covered.
+     */
+    public int getPosition(ItemStorageCoFH slot) {
+
+        return positions.getInt(slot);
+    }
+
+    /**
+     * Candidate slots holding the given stack. Do not modify the returned list.
+     */
+    public IntArrayList getSlots(ItemStack stack) {
+
+        IntArrayList list = slotsByKey.get(getKey(stack));
+        return list == null ? EMPTY : list;
+    }
+
+    /**
+     * Candidate empty slots. Do not modify the returned set.
+     */
+    public BitSet getFreeSlots() {
+
+        return free;
+    }
+
+    public void update(ItemStorageCoFH slot) {
+
+        int position = getPosition(slot);
+        if (position >= 0) {
+            update(position);
+        }
+    }
+
+    public void update(int position) {
+
+        ItemStack stack = slots.get(position).getItemStack();
+        if (stack.isEmpty()) {
+            if (!free.get(position)) {
+                remove(position);
+                free.set(position);
+            }
+            return;
+        }
+        int key = getKey(stack);
+        if (free.get(position)) {
+            free.clear(position);
+        } else if (keys[position] == key) {
+            return;
+        } else {
+            remove(position);
+        }
+        add(position, key);
+    }
+
+    public void rebuild() {
+
+        slotsByKey.clear();
+        free.clear();
+        for (int i = 0; i < keys.length; ++i) {
+            ItemStack stack = slots.get(i).getItemStack();
+            if (stack.isEmpty()) {
+                free.set(i);
+            } else {
+                add(i, getKey(stack));
+            }
+        }
+    }
+
+    // region HELPERS
+    private static final IntArrayList EMPTY = new IntArrayList(0);
+
+    private void add(int position, int key) {
+
+        keys[position] = key;
+        IntArrayList list = slotsByKey.get(key);
+        if (list == null) {
+            list = new IntArrayList(2);
+            slotsByKey.put(key, list);
+        }
+        list.add(position);
+    }
+
+    private void remove(int position) {
+
+        IntArrayList list = slotsByKey.get(keys[position]);
+        if (list != null) {
+            list.rem(position);
+            if (list.isEmpty()) {
+                slotsByKey.remove(keys[position]);
+            }
+        }
+    }
+    // endregion
+}
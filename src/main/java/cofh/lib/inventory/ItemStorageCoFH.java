@@ -33,6 +33,8 @@ public class ItemStorageCoFH implements IItemHandler, IItemStackAccess, IResourc
     protected ItemStack item = ItemStack.EMPTY;
     protected int capacity;
 
+    protected ItemSlotIndex index;
+
     public ItemStorageCoFH() {
 
         this(e -> true);
@@ -113,17 +115,36 @@ public class ItemStorageCoFH implements IItemHandler, IItemStackAccess, IResourc
     public void consume(int amount) {
 
         this.item = ItemHelper.consumeItem(item, amount);
+        onItemChanged();
     }
 
     public void setItemStack(ItemStack item) {
 
         this.item = item.isEmpty() ? emptyItem.get() : item;
+        onItemChanged();
+    }
+
+    /**
+     * Called whenever this storage may now hold a different Item, tag, or nothing at all. Count changes alone do not
+     * need to be reported.
+     */
+    protected void onItemChanged() {
+
+        if (index != null) {
+            index.update(this);
+        }
+    }
+
+    void setIndex(ItemSlotIndex index) {
+
+        this.index = index;
     }
 
     // region NBT
     public ItemStorageCoFH read(CompoundNBT nbt) {
 
         item = loadItemStack(nbt);
+        onItemChanged();
         return this;
     }
 
@@ -206,7 +227,8 @@ public class ItemStorageCoFH implements IItemHandler, IItemStackAccess, IResourc
         }
         if (item.isEmpty()) {
             if (!simulate) {
-                setItemStack(stack);
+                // Never keep the caller's stack; it may be reused, and changes to it would bypass onItemChanged().
+                setItemStack(stack.copy());
             }
             return ItemStack.EMPTY;
         } else if (itemsEqualWithTags(item, stack)) {
@@ -265,6 +287,7 @@ public class ItemStorageCoFH implements IItemHandler, IItemStackAccess, IResourc
             return false;
         }
         this.item = emptyItem.get();
+        onItemChanged();
         return true;
     }
 
@@ -277,6 +300,7 @@ public class ItemStorageCoFH implements IItemHandler, IItemStackAccess, IResourc
         this.item.setCount(Math.min(item.getCount() + quantity, getCapacity()));
         if (this.item.isEmpty()) {
             this.item = emptyItem.get();
+            onItemChanged();
         }
     }
 
@@ -36,6 +36,12 @@ public class ManagedItemHandler extends SimpleItemHandler {
         return this;
     }
 
+    @Override
+    public int getInsertSlots() {
+
+        return inputSlots.size();
+    }
+
     // region IItemHandler
     @Nonnull
     @Override
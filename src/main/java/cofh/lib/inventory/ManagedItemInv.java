@@ -24,6 +24,8 @@ public class ManagedItemInv extends SimpleItemInv {
     protected IItemHandler accessibleHandler;
     protected IItemHandler internalHandler;
 
+    protected boolean indexed;
+
     public ManagedItemInv(IInventoryCallback callback) {
 
         super(callback);
@@ -34,6 +36,16 @@ public class ManagedItemInv extends SimpleItemInv {
         super(callback, tag);
     }
 
+    /**
+     * Maintain an Item-to-slot index shared by all handlers. Worthwhile for inventories with many slots.
+     * Must be called before the handlers are initialized.
+     */
+    public ManagedItemInv setIndexed(boolean indexed) {
+
+        this.indexed = indexed;
+        return this;
+    }
+
     public void addSlots(StorageGroup group, int amount) {
 
         for (int i = 0; i < amount; ++i) {
@@ -83,12 +95,15 @@ public class ManagedItemInv extends SimpleItemInv {
         ((ArrayList<ItemStorageCoFH>) outputSlots).trimToSize();
         ((ArrayList<ItemStorageCoFH>) internalSlots).trimToSize();
 
-        inputHandler = new ManagedItemHandler(callback, inputSlots, Collections.emptyList());
-        outputHandler = new ManagedItemHandler(callback, Collections.emptyList(), outputSlots);
-        ioHandler = new ManagedItemHandler(callback, inputSlots, outputSlots).restrict();
-        accessibleHandler = new ManagedItemHandler(callback, inputSlots, outputSlots);
-        internalHandler = new SimpleItemHandler(callback, internalSlots);
-        allHandler = new SimpleItemHandler(callback, slots);
+        ItemSlotIndex slotIndex = indexed ? new ItemSlotIndex(slots) : null;
+        setIndex(slotIndex);
+
+        inputHandler = new ManagedItemHandler(callback, inputSlots, Collections.emptyList()).setIndex(slotIndex);
+        outputHandler = new ManagedItemHandler(callback, Collections.emptyList(), outputSlots).setIndex(slotIndex);
+        ioHandler = new ManagedItemHandler(callback, inputSlots, outputSlots).restrict().setIndex(slotIndex);
+        accessibleHandler = new ManagedItemHandler(callback, inputSlots, outputSlots).setIndex(slotIndex);
+        internalHandler = new SimpleItemHandler(callback, internalSlots).setIndex(slotIndex);
+        allHandler = new SimpleItemHandler(callback, slots).setIndex(slotIndex);
     }
 
     public boolean hasInputSlots() {
@@ -1,14 +1,21 @@
 package cofh.lib.inventory;
 
 import cofh.lib.util.IInventoryCallback;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
+import static cofh.lib.util.helpers.ItemHelper.cloneStack;
+import static cofh.lib.util.helpers.ItemHelper.itemsEqualWithTags;
+
 /**
  * Simple Item Handler implementation using CoFH Item Storage objects.
  */
@@ -18,6 +25,10 @@ public class SimpleItemHandler implements IItemHandler {
     protected IInventoryCallback callback;
     protected List<ItemStorageCoFH> slots;
 
+    @Nullable
+    protected ItemSlotIndex index;
+    protected int[] indexToSlot;
+
     public SimpleItemHandler(@Nonnull List<ItemStorageCoFH> slots) {
 
         this(null, slots);
@@ -55,6 +66,35 @@ public class SimpleItemHandler implements IItemHandler {
         return true;
     }
 
+    /**
+     * Attaches a shared slot index. Only slots covered by the index are visible to the indexed lookups.
+     */
+    public SimpleItemHandler setIndex(@Nullable ItemSlotIndex index) {
+
+        this.index = index;
+        if (index == null) {
+            indexToSlot = null;
+            return this;
+        }
+        indexToSlot = new int[index.size()];
+        Arrays.fill(indexToSlot, -1);
+        for (int i = 0; i < slots.size(); ++i) {
+            int position = index.getPosition(slots.get(i));
+            if (position >= 0) {
+                indexToSlot[position] = i;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Number of leading slots which accept insertion through this handler.
+     */
+    public int getInsertSlots() {
+
+        return getSlots();
+    }
+
     public void onInventoryChange(int slot) {
 
         if (callback == null) {
@@ -63,6 +103,93 @@ public class SimpleItemHandler implements IItemHandler {
         callback.onInventoryChanged(slot);
     }
 
+    // region INDEXED LOOKUPS
+
+    /**
+     * Equivalent to ItemHandlerHelper.insertItemStacked(), but uses the slot index if one is attached.
+     */
+    @Nonnull
+    public ItemStack insertItemStacked(@Nonnull ItemStack stack, boolean simulate) {
+
+        if (index == null || stack.isEmpty()) {
+            return ItemHandlerHelper.insertItemStacked(this, stack, simulate);
+        }
+        return insertIndexed(stack, simulate);
+    }
+
+    /**
+     * Extracts up to the given amount of items matching the filter (item and tags) from any extractable slot.
+     */
+    @Nonnull
+    public ItemStack extractItem(@Nonnull ItemStack filter, int amount, boolean simulate) {
+
+        if (filter.isEmpty() || amount <= 0) {
+            return ItemStack.EMPTY;
+        }
+        int extracted = index == null ? extractScan(filter, amount, simulate) : extractIndexed(filter, amount, simulate);
+        return extracted <= 0 ? ItemStack.EMPTY : cloneStack(filter, extracted);
+    }
+
+    protected ItemStack insertIndexed(ItemStack stack, boolean simulate) {
+
+        int insertSlots = getInsertSlots();
+        IntArrayList matches = index.getSlots(stack);
+        for (int position : matches.toIntArray()) {
+            if (stack.isEmpty()) {
+                break;
+            }
+            int slot = indexToSlot[position];
+            if (slot < 0 || slot >= insertSlots) {
+                continue;
+            }
+            if (itemsEqualWithTags(slots.get(slot).getItemStack(), stack)) {
+                stack = insertItem(slot, stack, simulate);
+            } else {
+                index.update(position);
+            }
+        }
+        BitSet free = index.getFreeSlots();
+        for (int i = free.nextSetBit(0); i >= 0 && !stack.isEmpty(); i = free.nextSetBit(i + 1)) {
+            int slot = indexToSlot[i];
+            if (slot >= 0 && slot < insertSlots && slots.get(slot).isEmpty()) {
+                stack = insertItem(slot, stack, simulate);
+            }
+        }
+        return stack;
+    }
+
+    protected int extractIndexed(ItemStack filter, int amount, boolean simulate) {
+
+        int extracted = 0;
+        for (int position : index.getSlots(filter).toIntArray()) {
+            int slot = indexToSlot[position];
+            if (slot < 0) {
+                continue;
+            }
+            if (itemsEqualWithTags(slots.get(slot).getItemStack(), filter)) {
+                extracted += extractItem(slot, amount - extracted, simulate).getCount();
+                if (extracted >= amount) {
+                    break;
+                }
+            } else {
+                index.update(position);
+            }
+        }
+        return extracted;
+    }
+
+    protected int extractScan(ItemStack filter, int amount, boolean simulate) {
+
+        int extracted = 0;
+        for (int slot = 0; slot < slots.size() && extracted < amount; ++slot) {
+            if (itemsEqualWithTags(slots.get(slot).getItemStack(), filter)) {
+                extracted += extractItem(slot, amount - extracted, simulate).getCount();
+            }
+        }
+        return extracted;
+    }
+    // endregion
+
     // region IItemHandler
     @Override
     public int getSlots() {
@@ -0,0 +1,99 @@
+package cofh.lib.network;
+
+import cofh.lib.util.control.IReconfigurable.SideConfig;
+import cofh.lib.util.control.IRedstoneControllable.ControlMode;
+import cofh.lib.util.control.ISecurable.AccessMode;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.Direction;
+
+/**
+ * Bit-packed encoding for control module network sync.
+ *
+ * Side config: facing and 6 sides at 3 bits each in 3 bytes.
+ * Redstone: power and threshold as nibbles plus a 3 bit mode in 2 bytes.
+ * Transfer: a single flags byte.
+ * Security: access mode and interned owner id in a single VarInt (usually 1 byte).
+ */
+public class ControlCodec {
+
+    private ControlCodec() {
+
+    }
+
+    // region SIDES
+    public static void writeSides(PacketBuffer buffer, Direction facing, SideConfig[] sides) {
+
+        int packed = facing.get3DDataValue();
+        for (int i = 0; i < 6; ++i) {
+            packed |= sides[i].ordinal() << (3 + 3 * i);
+        }
+        buffer.writeMedium(packed);
+    }
+
+    /**
+     * Reads sides into the given array.
+     *
+     * @return The facing.
+     */
+    public static Direction readSides(PacketBuffer buffer, SideConfig[] sides) {
+
+        int packed = buffer.readUnsignedMedium();
+        for (int i = 0; i < 6; ++i) {
+            sides[i] = SideConfig.VALUES[(packed >> (3 + 3 * i)) & 7];
+        }
+        return Direction.from3DDataValue(packed & 7);
+    }
+    // endregion
+
+    // region REDSTONE
+    public static void writeRedstone(PacketBuffer buffer, int power, int threshold, ControlMode mode) {
+
+        buffer.writeShort((power & 15) | (threshold & 15) << 4 | mode.ordinal() << 8);
+    }
+
+    public static int readPower(int packed) {
+
+        return packed & 15;
+    }
+
+    public static int readThreshold(int packed) {
+
+        return (packed >> 4) & 15;
+    }
+
+    public static ControlMode readMode(int packed) {
+
+        return ControlMode.VALUES[(packed >> 8) & 7];
+    }
+    // endregion
+
+    // region FLAGS
+    public static void writeFlags(PacketBuffer buffer, boolean a, boolean b) {
+
+        buffer.writeByte((a ? 1 : 0) | (b ? 2 : 0));
+    }
+
+    public static boolean readFlag(int packed, int index) {
+
+        return (packed & (1 << index)) != 0;
+    }
+    // endregion
+
+    // region SECURITY
+    public static void writeSecurity(PacketBuffer buffer, AccessMode access, int ownerId) {
+
+        buffer.writeVarInt(ownerId << 2 | access.ordinal());
+    }
+
+    public static AccessMode readAccess(int packed) {
+
+        return AccessMode.VALUES[packed & 3];
+    }
+
+    // Resolve with OwnerRegistry; the client's table is synced from the server.
+    public static int readOwnerId(int packed) {
+
+        return packed >>> 2;
+    }
+    // endregion
+}
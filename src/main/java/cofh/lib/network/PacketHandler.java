@@ -5,11 +5,21 @@ import cofh.lib.network.packet.IPacketClient;
 import cofh.lib.network.packet.IPacketServer;
 import it.unimi.dsi.fastutil.bytes.Byte2ObjectArrayMap;
 import it.unimi.dsi.fastutil.bytes.Byte2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.network.INetHandler;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.network.play.ServerPlayNetHandler;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.loading.FMLEnvironment;
 import net.minecraftforge.fml.network.NetworkEvent;
@@ -18,15 +28,28 @@ import net.minecraftforge.fml.network.event.EventNetworkChannel;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public class PacketHandler {
 
     private static final Logger LOG = LogManager.getLogger("cofh.PacketHandler");
+    private static final List<PacketHandler> HANDLERS = new CopyOnWriteArrayList<>();
 
     private final ResourceLocation channelName;
     private final EventNetworkChannel channel;
     private final Byte2ObjectMap<Supplier<IPacket>> packets = new Byte2ObjectArrayMap<>(255);
+    private final PacketStats stats = new PacketStats();
+
+    private final Set<TileEntity> dirtyStates = new ObjectLinkedOpenHashSet<>();
+    private Function<List<TileEntity>, IPacketClient> stateBatchFactory;
 
     public PacketHandler(ResourceLocation channelName) {
 
@@ -40,6 +63,8 @@ public class PacketHandler {
             channel.registerObject(new ClientHandler());
         }
         channel.registerObject(new ServerHandler());
+        MinecraftForge.EVENT_BUS.addListener(this::onServerTick);
+        HANDLERS.add(this);
     }
 
     @SuppressWarnings ("unchecked")
@@ -57,6 +82,133 @@ public class PacketHandler {
         return channelName;
     }
 
+    // region STATE BATCHING
+
+    /**
+     * Sets the factory used to multiplex the state of several tiles in one chunk into a single packet.
+     *
+     * @param factory Builds a packet from the dirty tiles of a single chunk.
+     */
+    public void registerStateBatch(Function<List<TileEntity>, IPacketClient> factory) {
+
+        this.stateBatchFactory = factory;
+    }
+
+    /**
+     * Queues a tile for state sync at the end of the current server tick.
+     * Repeated calls for the same tile within a tick collapse into a single entry.
+     *
+     * @param tile The tile whose state changed.
+     * @return False if no batch factory is registered and the caller must send the state itself.
+     */
+    public boolean markStateDirty(TileEntity tile) {
+
+        if (stateBatchFactory == null) {
+            return false;
+        }
+        dirtyStates.add(tile);
+        return true;
+    }
+
+    private void onServerTick(TickEvent.ServerTickEvent event) {
+
+        if (event.phase != TickEvent.Phase.END) {
+            return;
+        }
+        if (!dirtyStates.isEmpty()) {
+            flushStates();
+        }
+        stats.tick();
+    }
+
+    private void flushStates() {
+
+        Map<World, Long2ObjectMap<List<TileEntity>>> byChunk = new IdentityHashMap<>();
+        for (TileEntity tile : dirtyStates) {
+            World world = tile.getLevel();
+            if (tile.isRemoved() || !(world instanceof ServerWorld)) {
+                continue;
+            }
+            Long2ObjectMap<List<TileEntity>> chunks = byChunk.computeIfAbsent(world, e -> new Long2ObjectLinkedOpenHashMap<>());
+            long chunk = ChunkPos.asLong(tile.getBlockPos().getX() >> 4, tile.getBlockPos().getZ() >> 4);
+            List<TileEntity> tiles = chunks.get(chunk);
+            if (tiles == null) {
+                tiles = new ArrayList<>();
+                chunks.put(chunk, tiles);
+            }
+            tiles.add(tile);
+        }
+        dirtyStates.clear();
+
+        for (Map.Entry<World, Long2ObjectMap<List<TileEntity>>> worldEntry : byChunk.entrySet()) {
+            ServerWorld world = (ServerWorld) worldEntry.getKey();
+            for (Long2ObjectMap.Entry<List<TileEntity>> chunkEntry : worldEntry.getValue().long2ObjectEntrySet()) {
+                IPacketClient packet = stateBatchFactory.apply(chunkEntry.getValue());
+                packet.sendToChunk(world, new ChunkPos(chunkEntry.getLongKey()));
+                packet.release();
+            }
+        }
+    }
+    // endregion
+
+    // region STATS
+    public static List<PacketHandler> getHandlers() {
+
+        return Collections.unmodifiableList(HANDLERS);
+    }
+
+    public PacketStats getStats() {
+
+        return stats;
+    }
+
+    /**
+     * Total time spent on the main thread (read, if not decoded on the network thread, plus handle) for a packet id.
+     *
+     * @param id     The packet id.
+     * @param client True for packets handled on the client, false for packets handled on the server.
+     * @return The accumulated time, in nanoseconds.
+     */
+    public long getHandleNanos(int id, boolean client) {
+
+        return stats.get(id, client ? PacketStats.CLIENT_IN : PacketStats.SERVER_IN, PacketStats.NANOS);
+    }
+
+    public long getHandleCount(int id, boolean client) {
+
+        return stats.get(id, client ? PacketStats.CLIENT_IN : PacketStats.SERVER_IN, PacketStats.COUNT);
+    }
+    // endregion
+
+    private void dispatch(NetworkEvent.Context ctx, byte id, IPacket packet, PacketBuffer buf, Runnable handle, boolean client) {
+
+        // The id byte has already been read.
+        stats.recordPacket(id, client ? PacketStats.CLIENT_IN : PacketStats.SERVER_IN, buf.readableBytes() + 1);
+
+        final boolean decoded = packet.decodeOnNetworkThread();
+        if (decoded) {
+            try {
+                packet.read(buf);
+            } catch (RuntimeException ex) {
+                LOG.error("Failed to decode packet! ID: {}, Side: {}", id, client ? "Client" : "Server", ex);
+                packet.release();
+                return;
+            }
+        }
+        ctx.enqueueWork(() -> {
+            long start = System.nanoTime();
+            try {
+                if (!decoded) {
+                    packet.read(buf);
+                }
+                handle.run();
+            } finally {
+                packet.release();
+                stats.recordHandleTime(id, client ? PacketStats.CLIENT_IN : PacketStats.SERVER_IN, System.nanoTime() - start);
+            }
+        });
+    }
+
     // The ClientHandler, handles packets sent from the server to the client.
     private class ClientHandler {
 
@@ -77,10 +229,7 @@ public class PacketHandler {
                 LOG.error("Received packet ID that isn't an IPacketClient? ID: {}", id);
                 return;
             }
-            ctx.enqueueWork(() -> {
-                packet.read(buf);
-                ((IPacketClient) packet).handleClient();
-            });
+            dispatch(ctx, id, packet, buf, ((IPacketClient) packet)::handleClient, true);
         }
 
     }
@@ -107,10 +256,8 @@ public class PacketHandler {
             }
             INetHandler netHandler = ctx.getNetworkManager().getPacketListener();
             if (netHandler instanceof ServerPlayNetHandler) {
-                ctx.enqueueWork(() -> {
-                    packet.read(buf);
-                    ((IPacketServer) packet).handleServer(((ServerPlayNetHandler) netHandler).player);
-                });
+                ServerPlayerEntity player = ((ServerPlayNetHandler) netHandler).player;
+                dispatch(ctx, id, packet, buf, () -> ((IPacketServer) packet).handleServer(player), false);
             }
         }
 
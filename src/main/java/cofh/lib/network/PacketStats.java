@@ -0,0 +1,141 @@
+package cofh.lib.network;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-packet-id network counters for a single {@link PacketHandler}.
+ * Counters are striped ({@link LongAdder}) so the network and main threads can record without locking.
+ * Snapshots are taken once per second on the server thread so rates can be computed over a window. The snapshot ring
+ * is large, so it is only kept while windows are being requested: the first request starts recording, and the ring is
+ * released again once nothing has asked for a window in {@link #MAX_WINDOW} seconds.
+ */
+public class PacketStats {
+
+    public static final int SERVER_OUT = 0;
+    public static final int SERVER_IN = 1;
+    public static final int CLIENT_OUT = 2;
+    public static final int CLIENT_IN = 3;
+    public static final int DIRECTIONS = 4;
+
+    public static final int COUNT = 0;
+    public static final int BYTES = 1;
+    public static final int NANOS = 2;
+    public static final int FIELDS = 3;
+
+    public static final int SNAPSHOT_INTERVAL = 20;
+    public static final int MAX_WINDOW = 600;
+
+    private static final String[] DIRECTION_NAMES = {"S->C sent", "C->S received", "C->S sent", "S->C received"};
+
+    private final LongAdder[] counters = new LongAdder[256 * DIRECTIONS * FIELDS];
+
+    private long[][] snapshots;
+    private int snapshotIndex = -1;
+    private int snapshotCount;
+    private int ticks;
+    private int idleTicks;
+
+    public PacketStats() {
+
+        for (int i = 0; i < counters.length; ++i) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    public static String getDirectionName(int direction) {
+
+        return DIRECTION_NAMES[direction];
+    }
+
+    private static int index(int id, int direction, int field) {
+
+        return ((id & 0xFF) * DIRECTIONS + direction) * FIELDS + field;
+    }
+
+    public void recordPacket(int id, int direction, int bytes) {
+
+        counters[index(id, direction, COUNT)].increment();
+        counters[index(id, direction, BYTES)].add(bytes);
+    }
+
+    public void recordHandleTime(int id, int direction, long nanos) {
+
+        counters[index(id, direction, NANOS)].add(nanos);
+    }
+
+    public long get(int id, int direction, int field) {
+
+        return counters[index(id, direction, field)].sum();
+    }
+
+    // region SNAPSHOTS
+    void tick() {
+
+        if (snapshots == null) {
+            return;
+        }
+        if (++idleTicks > MAX_WINDOW * SNAPSHOT_INTERVAL) {
+            snapshots = null;
+            return;
+        }
+        if (++ticks < SNAPSHOT_INTERVAL) {
+            return;
+        }
+        ticks = 0;
+        snapshotIndex = (snapshotIndex + 1) % snapshots.length;
+        long[] snapshot = snapshots[snapshotIndex];
+        if (snapshot == null) {
+            snapshot = new long[counters.length];
+            snapshots[snapshotIndex] = snapshot;
+        }
+        for (int i = 0; i < counters.length; ++i) {
+            snapshot[i] = counters[i].sum();
+        }
+        snapshotCount = Math.min(snapshotCount + 1, snapshots.length);
+    }
+
+    /**
+     * Returns the change in every counter over (up to) the given number of seconds.
+     * Index the result with the same (id, direction, field) layout as {@link #get(int, int, int)} via {@link #delta(long[], int, int, int)}.
+     *
+     * @param seconds The window, clamped to what has been recorded.
+     * @return The per-counter deltas; length 0 until two snapshots have been taken since recording started.
+     */
+    public long[] getWindow(int seconds) {
+
+        if (snapshots == null) {
+            snapshots = new long[MAX_WINDOW + 1][];
+            snapshotIndex = -1;
+            snapshotCount = 0;
+            ticks = 0;
+        }
+        idleTicks = 0;
+        if (snapshotCount < 2) {
+            return new long[0];
+        }
+        int back = Math.min(Math.max(seconds, 1), snapshotCount - 1);
+        long[] start = snapshots[Math.floorMod(snapshotIndex - back, snapshots.length)];
+        long[] end = snapshots[snapshotIndex];
+        long[] ret = Arrays.copyOf(end, end.length);
+        for (int i = 0; i < ret.length; ++i) {
+            ret[i] -= start[i];
+        }
+        return ret;
+    }
+
+    /**
+     * Number of whole seconds actually covered by {@link #getWindow(int)} for the requested window; 0 until two
+     * snapshots have been taken.
+     */
+    public int getWindowSeconds(int seconds) {
+
+        return snapshots == null || snapshotCount < 2 ? 0 : Math.min(Math.max(seconds, 1), snapshotCount - 1);
+    }
+
+    public static long delta(long[] window, int id, int direction, int field) {
+
+        return window.length == 0 ? 0 : window[index(id, direction, field)];
+    }
+    // endregion
+}
@@ -0,0 +1,136 @@
+package cofh.lib.network;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.management.PlayerList;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-dimension index of online players, bucketed by chunk and rebuilt once per server tick.
+ * Lets range-limited packet sends look at nearby buckets instead of every player on the server.
+ */
+public class PlayerSpatialIndex {
+
+    private PlayerSpatialIndex() {
+
+    }
+
+    private static final Map<RegistryKey<World>, Long2ObjectMap<List<ServerPlayerEntity>>> BUCKETS = new HashMap<>();
+    private static final Map<RegistryKey<World>, List<ServerPlayerEntity>> PLAYERS = new HashMap<>();
+    private static final List<ServerPlayerEntity> OPS = new ArrayList<>();
+
+    private static boolean ready = false;
+
+    public static void refresh(MinecraftServer server) {
+
+        BUCKETS.clear();
+        PLAYERS.clear();
+        OPS.clear();
+
+        PlayerList playerList = server.getPlayerList();
+        for (ServerPlayerEntity player : playerList.getPlayers()) {
+            RegistryKey<World> dim = player.level.dimension();
+            PLAYERS.computeIfAbsent(dim, e -> new ArrayList<>()).add(player);
+
+            Long2ObjectMap<List<ServerPlayerEntity>> buckets = BUCKETS.computeIfAbsent(dim, e -> new Long2ObjectOpenHashMap<>());
+            long chunk = ChunkPos.asLong(player.xChunk, player.zChunk);
+            List<ServerPlayerEntity> bucket = buckets.get(chunk);
+            if (bucket == null) {
+                bucket = new ArrayList<>(1);
+                buckets.put(chunk, bucket);
+            }
+            bucket.add(player);
+
+            if (playerList.isOp(player.getGameProfile())) {
+                OPS.add(player);
+            }
+        }
+        ready = true;
+    }
+
+    public static void clear() {
+
+        BUCKETS.clear();
+        PLAYERS.clear();
+        OPS.clear();
+        ready = false;
+    }
+
+    /**
+     * False until the first refresh after the server starts; callers should fall back to the PlayerList.
+     */
+    public static boolean isReady() {
+
+        return ready;
+    }
+
+    public static List<ServerPlayerEntity> getOps() {
+
+        return OPS;
+    }
+
+    public static List<ServerPlayerEntity> getPlayers(RegistryKey<World> dim) {
+
+        return PLAYERS.getOrDefault(dim, Collections.emptyList());
+    }
+
+    public static List<ServerPlayerEntity> getPlayersAround(double x, double y, double z, double range, RegistryKey<World> dim) {
+
+        List<ServerPlayerEntity> dimPlayers = PLAYERS.get(dim);
+        if (dimPlayers == null) {
+            return Collections.emptyList();
+        }
+        List<ServerPlayerEntity> ret = new ArrayList<>();
+        double rangeSq = range * range;
+
+        int minX = ((int) Math.floor(x - range)) >> 4;
+        int maxX = ((int) Math.floor(x + range)) >> 4;
+        int minZ = ((int) Math.floor(z - range)) >> 4;
+        int maxZ = ((int) Math.floor(z + range)) >> 4;
+
+        // Scanning the buckets is only worthwhile while there are fewer of them than players.
+        if ((long) (maxX - minX + 1) * (maxZ - minZ + 1) > dimPlayers.size()) {
+            for (ServerPlayerEntity player : dimPlayers) {
+                addIfInRange(ret, player, x, y, z, rangeSq, dim);
+            }
+            return ret;
+        }
+        Long2ObjectMap<List<ServerPlayerEntity>> buckets = BUCKETS.get(dim);
+        for (int cx = minX; cx <= maxX; ++cx) {
+            for (int cz = minZ; cz <= maxZ; ++cz) {
+                List<ServerPlayerEntity> bucket = buckets.get(ChunkPos.asLong(cx, cz));
+                if (bucket != null) {
+                    for (ServerPlayerEntity player : bucket) {
+                        addIfInRange(ret, player, x, y, z, rangeSq, dim);
+                    }
+                }
+            }
+        }
+        return ret;
+    }
+
+    private static void addIfInRange(List<ServerPlayerEntity> list, ServerPlayerEntity player, double x, double y, double z, double rangeSq, RegistryKey<World> dim) {
+
+        // Players may have moved dimension or logged out since the last refresh.
+        if (player.hasDisconnected() || player.level.dimension() != dim) {
+            return;
+        }
+        double dx = x - player.getX();
+        double dy = y - player.getY();
+        double dz = z - player.getZ();
+        if (dx * dx + dy * dy + dz * dz < rangeSq) {
+            list.add(player);
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package cofh.lib.network.packet;
 
 import cofh.lib.network.PacketHandler;
+import cofh.lib.network.PacketStats;
 import io.netty.buffer.Unpooled;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.network.NetworkDirection;
@@ -42,6 +43,25 @@ public interface IPacket {
      */
     void read(PacketBuffer buf);
 
+    /**
+     * If true, {@link #read(PacketBuffer)} is called on the network thread and only the handle step is queued
+     * onto the main thread. Only opt in if read is pure and copies everything it needs into the packet's own fields.
+     *
+     * @return True to decode this packet on the network thread.
+     */
+    default boolean decodeOnNetworkThread() {
+
+        return false;
+    }
+
+    /**
+     * Release any pooled buffers leased by this packet.
+     * Called once the packet has been sent, or once it has been handled.
+     */
+    default void release() {
+
+    }
+
     /**
      * Creates a {@link net.minecraft.network.IPacket} from this packet.
      * This method is an overload for {@link #toVanillaPacket(NetworkDirection, int)}
@@ -66,6 +86,7 @@ public interface IPacket {
         PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
         buf.writeByte(getId());
         write(buf);
+        getHandler().getStats().recordPacket(getId(), direction == NetworkDirection.PLAY_TO_CLIENT ? PacketStats.SERVER_OUT : PacketStats.CLIENT_OUT, buf.readableBytes());
         return direction.buildPacket(Pair.of(buf, index), getHandler().getChannelName()).getThis();
     }
 
@@ -1,5 +1,6 @@
 package cofh.lib.network.packet;
 
+import cofh.lib.network.PlayerSpatialIndex;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.management.PlayerList;
@@ -14,6 +15,8 @@ import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.fml.LogicalSidedProvider;
 import net.minecraftforge.fml.network.NetworkDirection;
 
+import java.util.List;
+
 /**
  * Packet sent FROM Servers TO Clients
  *
@@ -65,6 +68,18 @@ public interface IPacketClient extends IPacket {
     default void sendToOps() {
 
         net.minecraft.network.IPacket<?> packet = null;
+        if (PlayerSpatialIndex.isReady()) {
+            for (ServerPlayerEntity player : PlayerSpatialIndex.getOps()) {
+                if (player.hasDisconnected()) {
+                    continue;
+                }
+                if (packet == null) { // So we don't serialize multiple times.
+                    packet = toVanillaPacket(NetworkDirection.PLAY_TO_CLIENT);
+                }
+                player.connection.send(packet);
+            }
+            return;
+        }
         MinecraftServer server = LogicalSidedProvider.INSTANCE.get(LogicalSide.SERVER);
         PlayerList playerList = server.getPlayerList();
         for (ServerPlayerEntity player : playerList.getPlayers()) {
@@ -116,9 +131,20 @@ public interface IPacketClient extends IPacket {
      */
     default void sendToAllAround(double x, double y, double z, double range, RegistryKey<World> dim) {
 
-        MinecraftServer server = LogicalSidedProvider.INSTANCE.get(LogicalSide.SERVER);
-        PlayerList list = server.getPlayerList();
-        list.broadcast(null, x, y, z, range, dim, toVanillaPacket(NetworkDirection.PLAY_TO_CLIENT));
+        if (!PlayerSpatialIndex.isReady()) {
+            MinecraftServer server = LogicalSidedProvider.INSTANCE.get(LogicalSide.SERVER);
+            PlayerList list = server.getPlayerList();
+            list.broadcast(null, x, y, z, range, dim, toVanillaPacket(NetworkDirection.PLAY_TO_CLIENT));
+            return;
+        }
+        List<ServerPlayerEntity> players = PlayerSpatialIndex.getPlayersAround(x, y, z, range, dim);
+        if (players.isEmpty()) {
+            return;
+        }
+        net.minecraft.network.IPacket<?> packet = toVanillaPacket(NetworkDirection.PLAY_TO_CLIENT);
+        for (ServerPlayerEntity player : players) {
+            player.connection.send(packet);
+        }
     }
     // endregion
 
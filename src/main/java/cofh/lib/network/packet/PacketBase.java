@@ -1,6 +1,11 @@
 package cofh.lib.network.packet;
 
 import cofh.lib.network.PacketHandler;
+import io.netty.buffer.PooledByteBufAllocator;
+import net.minecraft.network.PacketBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Created by covers1624 on 21/09/18.
@@ -10,6 +15,8 @@ public abstract class PacketBase implements IPacket {
     protected final int id;
     protected final PacketHandler handler;
 
+    private List<PacketBuffer> leased;
+
     protected PacketBase(int id, PacketHandler handler) {
 
         this.id = id;
@@ -28,4 +35,31 @@ public abstract class PacketBase implements IPacket {
         return handler;
     }
 
+    /**
+     * Leases a buffer from the pooled allocator. It stays valid until {@link #release()} is called.
+     *
+     * @return The buffer.
+     */
+    public PacketBuffer leaseBuffer() {
+
+        PacketBuffer buf = new PacketBuffer(PooledByteBufAllocator.DEFAULT.buffer());
+        if (leased == null) {
+            leased = new ArrayList<>(1);
+        }
+        leased.add(buf);
+        return buf;
+    }
+
+    @Override
+    public void release() {
+
+        if (leased == null) {
+            return;
+        }
+        for (PacketBuffer buf : leased) {
+            buf.release();
+        }
+        leased = null;
+    }
+
 }
@@ -51,6 +51,15 @@ public interface ITileCallback extends IInventoryCallback {
 
     }
 
+    /**
+     * Cache of neighboring item and fluid handlers, if this tile keeps one; used by the adjacent transfer helpers.
+     */
+    @Nullable
+    default NeighborCapabilityCache neighborCache() {
+
+        return null;
+    }
+
     default ItemStack createItemStackTag(ItemStack stack) {
 
         return stack;
@@ -77,6 +86,13 @@ public interface ITileCallback extends IInventoryCallback {
 
     }
 
+    /**
+     * Flags sections of this tile's state (see SYNC_* in Constants) as changed since the last update packet.
+     */
+    default void markSyncDirty(int sections) {
+
+    }
+
     default void onPlacedBy(World worldIn, BlockPos pos, BlockState state, @Nullable LivingEntity placer, ItemStack stack) {
 
     }
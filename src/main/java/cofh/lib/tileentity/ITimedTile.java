@@ -0,0 +1,18 @@
+package cofh.lib.tileentity;
+
+/**
+ * Implemented by tiles which remove themselves at a fixed game time, via the BlockExpiryScheduler rather than ticking.
+ */
+public interface ITimedTile {
+
+    /**
+     * Absolute game time at which this tile expires.
+     */
+    long getExpiry();
+
+    /**
+     * Called by the scheduler once the expiry has passed.
+     */
+    void expire();
+
+}
@@ -0,0 +1,186 @@
+package cofh.lib.tileentity;
+
+import cofh.lib.util.helpers.BlockHelper;
+import cofh.lib.util.helpers.InventoryHelper;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.fluids.capability.templates.EmptyFluidHandler;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.wrapper.EmptyHandler;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import static cofh.lib.util.constants.Constants.DIRECTIONS;
+
+/**
+ * Per-side cache of the item and fluid handlers exposed by a tile's neighbors.
+ * <p>
+ * Entries are dropped when the neighbor's LazyOptional is invalidated, when the neighbor tile is removed, or when the
+ * owning block receives a neighbor update from that side. Until then, lookups do not touch the world.
+ *
+ * @author King Lemming
+ */
+public class NeighborCapabilityCache {
+
+    protected static final int ITEM = 0;
+    protected static final int FLUID = 1;
+
+    protected final TileEntity tile;
+
+    // Indexed by [type * 6 + side].
+    protected final Object[] handlers = new Object[12];
+    protected final LazyOptional<?>[] optionals = new LazyOptional<?>[12];
+    protected final TileEntity[] neighbors = new TileEntity[12];
+    protected int resolved;
+
+    // Optionals which already carry a listener from this cache; identity-based, and does not keep them alive.
+    protected final Set<LazyOptional<?>> listened = Collections.newSetFromMap(new WeakHashMap<>());
+
+    public NeighborCapabilityCache(TileEntity tile) {
+
+        this.tile = tile;
+    }
+
+    public IItemHandler getItemHandler(Direction side) {
+
+        int index = ITEM * 6 + side.ordinal();
+        if (!isNeighborLoaded(side)) {
+            // Chunk loads do not trigger neighbor updates, so never cache across an unloaded border.
+            invalidate(index);
+            return EmptyHandler.INSTANCE;
+        }
+        if (!isValid(index)) {
+            TileEntity adjTile = BlockHelper.getAdjacentTileEntity(tile, side);
+            Direction opposite = side.getOpposite();
+            LazyOptional<IItemHandler> optional = adjTile == null ? null : adjTile.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, opposite);
+            IItemHandler handler;
+            if (optional != null && optional.isPresent()) {
+                handler = optional.orElse(EmptyHandler.INSTANCE);
+            } else {
+                // Plain IInventory neighbors get wrapped; these are only dropped on neighbor update or removal.
+                handler = adjTile instanceof IInventory ? InventoryHelper.getItemHandlerCap(adjTile, opposite) : EmptyHandler.INSTANCE;
+            }
+            store(index, adjTile, handler, optional);
+        }
+        return (IItemHandler) handlers[index];
+    }
+
+    public IFluidHandler getFluidHandler(Direction side) {
+
+        int index = FLUID * 6 + side.ordinal();
+        if (!isNeighborLoaded(side)) {
+            invalidate(index);
+            return EmptyFluidHandler.INSTANCE;
+        }
+        if (!isValid(index)) {
+            TileEntity adjTile = BlockHelper.getAdjacentTileEntity(tile, side);
+            LazyOptional<IFluidHandler> optional = adjTile == null ? null : adjTile.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side.getOpposite());
+            store(index, adjTile, optional == null ? EmptyFluidHandler.INSTANCE : optional.orElse(EmptyFluidHandler.INSTANCE), optional);
+        }
+        return (IFluidHandler) handlers[index];
+    }
+
+    public boolean hasItemHandler(Direction side) {
+
+        return getItemHandler(side) != EmptyHandler.INSTANCE;
+    }
+
+    public boolean hasFluidHandler(Direction side) {
+
+        return getFluidHandler(side) != EmptyFluidHandler.INSTANCE;
+    }
+
+    public void invalidate(Direction side) {
+
+        invalidate(ITEM * 6 + side.ordinal());
+        invalidate(FLUID * 6 + side.ordinal());
+    }
+
+    /**
+     * Call from neighborChanged(); drops any entries for the side facing the given position.
+     */
+    public void invalidate(BlockPos fromPos) {
+
+        BlockPos pos = tile.getBlockPos();
+        for (Direction side : DIRECTIONS) {
+            if (fromPos.getX() == pos.getX() + side.getStepX() && fromPos.getY() == pos.getY() + side.getStepY() && fromPos.getZ() == pos.getZ() + side.getStepZ()) {
+                invalidate(side);
+                return;
+            }
+        }
+    }
+
+    public void invalidate() {
+
+        resolved = 0;
+        for (int i = 0; i < handlers.length; ++i) {
+            handlers[i] = null;
+            optionals[i] = null;
+            neighbors[i] = null;
+        }
+    }
+
+    // region HELPERS
+    protected boolean isNeighborLoaded(Direction side) {
+
+        World world = tile.getLevel();
+        return world != null && world.hasChunkAt(tile.getBlockPos().relative(side));
+    }
+
+    protected boolean isValid(int index) {
+
+        if ((resolved & (1 << index)) == 0) {
+            return false;
+        }
+        TileEntity adjTile = neighbors[index];
+        if (adjTile != null && adjTile.isRemoved()) {
+            invalidate(index);
+            return false;
+        }
+        return true;
+    }
+
+    protected void invalidate(int index) {
+
+        resolved &= ~(1 << index);
+        handlers[index] = null;
+        optionals[index] = null;
+        neighbors[index] = null;
+    }
+
+    protected <T> void store(int index, TileEntity adjTile, Object handler, LazyOptional<T> optional) {
+
+        handlers[index] = handler;
+        neighbors[index] = adjTile;
+        optionals[index] = optional;
+
+        // A tile which does not expose the capability (yet) may start to without any block update - e.g. on a side
+        // config change - so that answer is never kept. An empty space is safe to cache; a placement updates neighbors.
+        if (adjTile == null || (handler != EmptyHandler.INSTANCE && handler != EmptyFluidHandler.INSTANCE)) {
+            resolved |= 1 << index;
+        }
+
+        // A neighbor's LazyOptional is typically long-lived and re-resolved after every neighbor update; only ever
+        // attach one listener to it.
+        if (optional != null && optional.isPresent() && listened.add(optional)) {
+            optional.addListener(o -> {
+                listened.remove(o);
+                for (int i = 0; i < optionals.length; ++i) {
+                    if (optionals[i] == o) {
+                        invalidate(i);
+                    }
+                }
+            });
+        }
+    }
+    // endregion
+}
@@ -0,0 +1,204 @@
+package cofh.lib.util;
+
+import cofh.lib.util.helpers.MathHelper;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+
+import java.util.Arrays;
+
+import static cofh.lib.util.AreaUtils.HORZ_MAX;
+import static cofh.lib.util.AreaUtils.VERT_MAX;
+
+/**
+ * Allocation-free iteration over spheres and cylinders of block positions.
+ * <p>
+ * Offsets are precomputed once per shape and size. Optionally, positions in empty (all-air) or unloaded chunk
+ * sections are skipped without touching the block state - only use this where the target block can never be air.
+ *
+ * @author King Lemming
+ */
+public final class AreaIterator {
+
+    private AreaIterator() {
+
+    }
+
+    @FunctionalInterface
+    public interface IAreaConsumer {
+
+        /**
+         * The position is reused between calls; copy it if it needs to be kept.
+         *
+         * @return FALSE to stop iterating.
+         */
+        boolean accept(BlockPos.Mutable pos, int distanceSq);
+
+    }
+
+    private static final int BIAS = 64;
+    private static final int MASK = 127;
+
+    private static final int[][] SPHERES = new int[HORZ_MAX + 1][];
+    private static final int[][][] CYLINDERS = new int[HORZ_MAX + 1][VERT_MAX + 1][];
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    /**
+     * Sphere of the given radius (clamped to HORZ_MAX), clipped vertically to VERT_MAX.
+     * Positions strictly closer than the radius to the center block are included.
+     */
+    public static void forEachInSphere(World world, BlockPos center, int radius, boolean skipEmptySections, IAreaConsumer consumer) {
+
+        iterate(world, center, getSphereOffsets(radius), skipEmptySections, consumer);
+    }
+
+    /**
+     * Vertical cylinder of the given radius (clamped to HORZ_MAX) extending height (clamped to VERT_MAX) above and
+     * below the center. Positions strictly closer than the radius to the center column are included.
+     */
+    public static void forEachInCylinder(World world, BlockPos center, int radius, int height, boolean skipEmptySections, IAreaConsumer consumer) {
+
+        iterate(world, center, getCylinderOffsets(radius, height), skipEmptySections, consumer);
+    }
+
+    public static int[] getSphereOffsets(int radius) {
+
+        radius = MathHelper.clamp(radius, 0, HORZ_MAX);
+        int[] offsets = SPHERES[radius];
+        if (offsets == null) {
+            offsets = computeOffsets(radius, Math.min(radius, VERT_MAX), true);
+            SPHERES[radius] = offsets;
+        }
+        return offsets;
+    }
+
+    public static int[] getCylinderOffsets(int radius, int height) {
+
+        radius = MathHelper.clamp(radius, 0, HORZ_MAX);
+        height = MathHelper.clamp(height, 0, VERT_MAX);
+        int[] offsets = CYLINDERS[radius][height];
+        if (offsets == null) {
+            offsets = computeOffsets(radius, height, false);
+            CYLINDERS[radius][height] = offsets;
+        }
+        return offsets;
+    }
+
+    // region PACKING
+    public static int getX(int offset) {
+
+        return (offset & MASK) - BIAS;
+    }
+
+    public static int getY(int offset) {
+
+        return (offset >> 7 & MASK) - BIAS;
+    }
+
+    public static int getZ(int offset) {
+
+        return (offset >> 14 & MASK) - BIAS;
+    }
+    // endregion
+
+    // region HELPERS
+    private static int[] computeOffsets(int radius, int height, boolean sphere) {
+
+        int r2 = radius * radius;
+        int[] offsets = new int[(2 * radius + 1) * (2 * radius + 1) * (2 * height + 1)];
+        int count = 0;
+        for (int dy = -height; dy <= height; ++dy) {
+            for (int dz = -radius; dz <= radius; ++dz) {
+                for (int dx = -radius; dx <= radius; ++dx) {
+                    int d2 = dx * dx + dz * dz + (sphere ? dy * dy : 0);
+                    if (d2 < r2) {
+                        offsets[count++] = (dx + BIAS) | (dy + BIAS) << 7 | (dz + BIAS) << 14;
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+
+    private static void iterate(World world, BlockPos center, int[] offsets, boolean skipEmptySections, IAreaConsumer consumer) {
+
+        Scratch scratch = SCRATCH.get();
+        if (scratch.inUse) {
+            scratch = new Scratch();    // Re-entrant call from a consumer.
+        }
+        scratch.inUse = true;
+        try {
+            int cx = center.getX();
+            int cy = center.getY();
+            int cz = center.getZ();
+            if (skipEmptySections) {
+                scratch.reset(cx - HORZ_MAX >> 4, cy - VERT_MAX >> 4, cz - HORZ_MAX >> 4);
+            }
+            BlockPos.Mutable pos = scratch.pos;
+            for (int offset : offsets) {
+                int dx = getX(offset);
+                int dy = getY(offset);
+                int dz = getZ(offset);
+                int x = cx + dx;
+                int y = cy + dy;
+                int z = cz + dz;
+                if (skipEmptySections && scratch.isEmpty(world, x, y, z)) {
+                    continue;
+                }
+                pos.set(x, y, z);
+                if (!consumer.accept(pos, dx * dx + dy * dy + dz * dz)) {
+                    return;
+                }
+            }
+        } finally {
+            scratch.inUse = false;
+        }
+    }
+
+    private static class Scratch {
+
+        static final int SPAN = 8;
+        static final byte UNKNOWN = 0;
+        static final byte EMPTY = 1;
+        static final byte FILLED = 2;
+
+        final BlockPos.Mutable pos = new BlockPos.Mutable();
+        final byte[] sections = new byte[SPAN * SPAN * SPAN];
+        int baseX;
+        int baseY;
+        int baseZ;
+        boolean inUse;
+
+        void reset(int baseX, int baseY, int baseZ) {
+
+            this.baseX = baseX;
+            this.baseY = baseY;
+            this.baseZ = baseZ;
+            Arrays.fill(sections, UNKNOWN);
+        }
+
+        boolean isEmpty(World world, int x, int y, int z) {
+
+            int index = ((x >> 4) - baseX) * SPAN * SPAN + ((y >> 4) - baseY) * SPAN + ((z >> 4) - baseZ);
+            byte state = sections[index];
+            if (state == UNKNOWN) {
+                state = isSectionEmpty(world, x >> 4, y >> 4, z >> 4) ? EMPTY : FILLED;
+                sections[index] = state;
+            }
+            return state == EMPTY;
+        }
+
+        static boolean isSectionEmpty(World world, int sectionX, int sectionY, int sectionZ) {
+
+            if (sectionY < 0 || sectionY >= 16 || !world.hasChunk(sectionX, sectionZ)) {
+                return true;
+            }
+            Chunk chunk = world.getChunk(sectionX, sectionZ);
+            return ChunkSection.isEmpty(chunk.getSections()[sectionY]);
+        }
+
+    }
+    // endregion
+}
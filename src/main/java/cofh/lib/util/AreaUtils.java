@@ -9,7 +9,6 @@ import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.monster.EndermanEntity;
 import net.minecraft.state.properties.BlockStateProperties;
 import net.minecraft.util.Direction;
-import net.minecraft.util.EntityPredicates;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.shapes.ISelectionContext;
@@ -33,14 +32,20 @@ public class AreaUtils {
     public static final int HORZ_MAX = 32;
     public static final int VERT_MAX = 16;
 
+    // Replaceable sets are fixed; built once rather than per call.
+    private static final Set<BlockState> AIR_STATES = new ObjectOpenHashSet<>();
+    private static final Set<BlockState> MYCELIUM_REPLACEABLE = new ObjectOpenHashSet<>();
+
+    static {
+        Collections.addAll(AIR_STATES, AIR.defaultBlockState(), CAVE_AIR.defaultBlockState());
+        Collections.addAll(MYCELIUM_REPLACEABLE, DIRT.defaultBlockState(), GRASS_BLOCK.defaultBlockState());
+    }
+
     // region BURNING
     public static void igniteNearbyEntities(Entity entity, World worldIn, BlockPos pos, int radius, int duration) {
 
         AxisAlignedBB area = new AxisAlignedBB(pos.offset(-radius, -radius, -radius), pos.offset(1 + radius, 1 + radius, 1 + radius));
-        List<LivingEntity> mobs = worldIn.getEntitiesOfClass(LivingEntity.class, area, EntityPredicates.ENTITY_STILL_ALIVE);
-        mobs.removeIf(Entity::isInWater);
-        mobs.removeIf(Entity::fireImmune);
-        mobs.removeIf(mob -> mob instanceof EndermanEntity);
+        List<LivingEntity> mobs = worldIn.getEntitiesOfClass(LivingEntity.class, area, mob -> mob.isAlive() && !mob.isInWater() && !mob.fireImmune() && !(mob instanceof EndermanEntity));
         for (LivingEntity mob : mobs) {
             mob.setSecondsOnFire(duration);
         }
@@ -48,43 +53,33 @@ public class AreaUtils {
 
     public static void igniteNearbyGround(Entity entity, World worldIn, BlockPos pos, int radius, double chance) {
 
-        float f = (float) Math.min(HORZ_MAX, radius);
-        float v = (float) Math.min(VERT_MAX, radius);
-        float f2 = f * f;
-        BlockPos.Mutable mutable = new BlockPos.Mutable();
-
-        for (BlockPos blockpos : BlockPos.betweenClosed(pos.offset(-f, -v, -f), pos.offset(f, v, f))) {
-            double distance = blockpos.distSqr(entity.position(), true);
-            if (distance < f2) {
-                mutable.set(blockpos.getX(), blockpos.getY() + 1, blockpos.getZ());
-                BlockState blockstate1 = worldIn.getBlockState(mutable);
-                if (blockstate1.isAir(worldIn, mutable)) {
-                    if (isValidFirePosition(worldIn, mutable, chance)) {
-                        worldIn.setBlockAndUpdate(mutable, ((FireBlock) FIRE).getStateForPlacement(worldIn, mutable));
-                    }
+        BlockMutationBatch batch = new BlockMutationBatch(worldIn);
+        BlockPos.Mutable above = new BlockPos.Mutable();
+
+        AreaIterator.forEachInSphere(worldIn, pos, radius, true, (iterPos, distance) -> {
+            above.set(iterPos.getX(), iterPos.getY() + 1, iterPos.getZ());
+            if (worldIn.getBlockState(above).isAir(worldIn, above)) {
+                if (isValidFirePosition(worldIn, above, chance)) {
+                    batch.set(above, ((FireBlock) FIRE).getStateForPlacement(worldIn, above));
                 }
             }
-        }
+            return true;
+        });
+        batch.apply(3);
     }
 
     public static void igniteSpecial(Entity entity, World worldIn, BlockPos pos, int radius, boolean campfire, boolean tnt, @Nullable Entity igniter) {
 
-        float f = (float) Math.min(HORZ_MAX, radius);
-        float v = (float) Math.min(VERT_MAX, radius);
-        float f2 = f * f;
-
-        for (BlockPos blockpos : BlockPos.betweenClosed(pos.offset(-f, -v, -f), pos.offset(f, v, f))) {
-            double distance = blockpos.distSqr(entity.position(), true);
-            if (distance < f2) {
-                BlockState state = worldIn.getBlockState(blockpos);
-                if (campfire && isUnlitCampfire(state)) {
-                    worldIn.setBlockAndUpdate(blockpos, state.setValue(BlockStateProperties.LIT, true));
-                } else if (tnt && isUnlitTNT(state)) {
-                    state.getBlock().catchFire(state, worldIn, blockpos, Direction.UP, igniter instanceof LivingEntity ? (LivingEntity) igniter : null);
-                    worldIn.setBlockAndUpdate(blockpos, AIR.defaultBlockState());
-                }
+        AreaIterator.forEachInSphere(worldIn, pos, radius, true, (iterPos, distance) -> {
+            BlockState state = worldIn.getBlockState(iterPos);
+            if (campfire && isUnlitCampfire(state)) {
+                worldIn.setBlockAndUpdate(iterPos, state.setValue(BlockStateProperties.LIT, true));
+            } else if (tnt && isUnlitTNT(state)) {
+                state.getBlock().catchFire(state, worldIn, iterPos, Direction.UP, igniter instanceof LivingEntity ? (LivingEntity) igniter : null);
+                worldIn.setBlockAndUpdate(iterPos, AIR.defaultBlockState());
             }
-        }
+            return true;
+        });
     }
 
     public static boolean isValidFirePosition(World worldIn, BlockPos pos, double chance) {
@@ -117,91 +112,42 @@ public class AreaUtils {
     public static void freezeNearbyGround(Entity entity, World worldIn, BlockPos pos, int radius) {
 
         BlockState state = SNOW.defaultBlockState();
-        float f = (float) Math.min(HORZ_MAX, radius);
-        float v = (float) Math.min(VERT_MAX, radius);
-        float f2 = f * f;
-        BlockPos.Mutable mutable = new BlockPos.Mutable();
-
-        for (BlockPos blockpos : BlockPos.betweenClosed(pos.offset(-f, -v, -f), pos.offset(f, v, f))) {
-            double distance = blockpos.distSqr(entity.position(), true);
-            if (distance < f2) {
-                mutable.set(blockpos.getX(), blockpos.getY() + 1, blockpos.getZ());
-                BlockState blockstate1 = worldIn.getBlockState(mutable);
-                if (blockstate1.isAir(worldIn, mutable)) {
-                    if (worldIn.getBiome(mutable).getTemperature(blockpos) < 0.8F && isValidSnowPosition(worldIn, mutable)) {
-                        worldIn.setBlockAndUpdate(mutable, state);
-                    }
+        BlockMutationBatch batch = new BlockMutationBatch(worldIn);
+        BlockPos.Mutable above = new BlockPos.Mutable();
+
+        AreaIterator.forEachInSphere(worldIn, pos, radius, true, (iterPos, distance) -> {
+            above.set(iterPos.getX(), iterPos.getY() + 1, iterPos.getZ());
+            if (worldIn.getBlockState(above).isAir(worldIn, above)) {
+                if (worldIn.getBiome(above).getTemperature(iterPos) < 0.8F && isValidSnowPosition(worldIn, above)) {
+                    batch.set(above, state);
                 }
             }
-        }
+            return true;
+        });
+        batch.apply(3);
     }
 
     public static void freezeSpecial(Entity entity, World worldIn, BlockPos pos, int radius, boolean campfire, boolean fire) {
 
-        float f = (float) Math.min(HORZ_MAX, radius);
-        float v = (float) Math.min(VERT_MAX, radius);
-        float f2 = f * f;
-
-        for (BlockPos blockpos : BlockPos.betweenClosed(pos.offset(-f, -v, -f), pos.offset(f, v, f))) {
-            double distance = blockpos.distSqr(entity.position(), true);
-            if (distance < f2) {
-                BlockState state = worldIn.getBlockState(blockpos);
-                if (campfire && isLitCampfire(state)) {
-                    worldIn.setBlockAndUpdate(blockpos, state.setValue(BlockStateProperties.LIT, false));
-                } else if (fire && state.getBlock() == FIRE) {
-                    worldIn.setBlockAndUpdate(blockpos, AIR.defaultBlockState());
-                }
+        AreaIterator.forEachInSphere(worldIn, pos, radius, true, (iterPos, distance) -> {
+            BlockState state = worldIn.getBlockState(iterPos);
+            if (campfire && isLitCampfire(state)) {
+                worldIn.setBlockAndUpdate(iterPos, state.setValue(BlockStateProperties.LIT, false));
+            } else if (fire && state.getBlock() == FIRE) {
+                worldIn.setBlockAndUpdate(iterPos, AIR.defaultBlockState());
             }
-        }
+            return true;
+        });
     }
 
     public static void freezeSurfaceWater(Entity entity, World worldIn, BlockPos pos, int radius, boolean permanent) {
 
-        BlockState state = permanent ? ICE.defaultBlockState() : FROSTED_ICE.defaultBlockState();
-        float f = (float) Math.min(HORZ_MAX, radius);
-        float v = (float) Math.min(VERT_MAX, radius);
-        float f2 = f * f;
-        BlockPos.Mutable mutable = new BlockPos.Mutable();
-
-        for (BlockPos blockpos : BlockPos.betweenClosed(pos.offset(-f, -v, -f), pos.offset(f, v, f))) {
-            double distance = blockpos.distSqr(entity.position(), true);
-            if (distance < f2) {
-                mutable.set(blockpos.getX(), blockpos.getY() + 1, blockpos.getZ());
-                BlockState blockstate1 = worldIn.getBlockState(mutable);
-                if (blockstate1.isAir(worldIn, mutable)) {
-                    BlockState blockstate2 = worldIn.getBlockState(blockpos);
-                    boolean isFull = blockstate2.getBlock() == WATER && blockstate2.getValue(FlowingFluidBlock.LEVEL) == 0;
-                    if (blockstate2.getMaterial() == Material.WATER && isFull && state.canSurvive(worldIn, blockpos) && worldIn.isUnobstructed(state, blockpos, ISelectionContext.empty())) {
-                        worldIn.setBlockAndUpdate(blockpos, state);
-                        if (!permanent) {
-                            worldIn.getBlockTicks().scheduleTick(blockpos, FROSTED_ICE, MathHelper.nextInt(worldIn.random, 60, 120));
-                        }
-                    }
-                }
-            }
-        }
+        freezeFluid(worldIn, pos, radius, WATER, Material.WATER, permanent ? ICE : FROSTED_ICE, !permanent, true);
     }
 
     public static void freezeAllWater(Entity entity, World worldIn, BlockPos pos, int radius, boolean permanent) {
 
-        BlockState state = permanent ? ICE.defaultBlockState() : FROSTED_ICE.defaultBlockState();
-        float f = (float) Math.min(HORZ_MAX, radius);
-        float v = (float) Math.min(VERT_MAX, radius);
-        float f2 = f * f;
-
-        for (BlockPos blockpos : BlockPos.betweenClosed(pos.offset(-f, -v, -f), pos.offset(f, v, f))) {
-            double distance = blockpos.distSqr(entity.position(), true);
-            if (distance < f2) {
-                BlockState blockstate2 = worldIn.getBlockState(blockpos);
-                boolean isFull = blockstate2.getBlock() == WATER && blockstate2.getValue(FlowingFluidBlock.LEVEL) == 0;
-                if (blockstate2.getMaterial() == Material.WATER && isFull && state.canSurvive(worldIn, blockpos) && worldIn.isUnobstructed(state, blockpos, ISelectionContext.empty())) {
-                    worldIn.setBlockAndUpdate(blockpos, state);
-                    if (!permanent) {
-                        worldIn.getBlockTicks().scheduleTick(blockpos, FROSTED_ICE, MathHelper.nextInt(worldIn.random, 60, 120));
-                    }
-                }
-            }
-        }
+        freezeFluid(worldIn, pos, radius, WATER, Material.WATER, permanent ? ICE : FROSTED_ICE, !permanent, false);
     }
 
     public static void freezeSurfaceLava(Entity entity, World worldIn, BlockPos pos, int radius, boolean permanent) {
@@ -209,29 +155,7 @@ public class AreaUtils {
         if (GLOSSED_MAGMA == null && !permanent) {
             return;
         }
-        BlockState state = permanent ? OBSIDIAN.defaultBlockState() : GLOSSED_MAGMA.defaultBlockState();
-        float f = (float) Math.min(HORZ_MAX, radius);
-        float v = (float) Math.min(VERT_MAX, radius);
-        float f2 = f * f;
-        BlockPos.Mutable mutable = new BlockPos.Mutable();
-
-        for (BlockPos blockpos : BlockPos.betweenClosed(pos.offset(-f, -v, -f), pos.offset(f, v, f))) {
-            double distance = blockpos.distSqr(entity.position(), true);
-            if (distance < f2) {
-                mutable.set(blockpos.getX(), blockpos.getY() + 1, blockpos.getZ());
-                BlockState blockstate1 = worldIn.getBlockState(mutable);
-                if (blockstate1.isAir(worldIn, mutable)) {
-                    BlockState blockstate2 = worldIn.getBlockState(blockpos);
-                    boolean isFull = blockstate2.getBlock() == LAVA && blockstate2.getValue(FlowingFluidBlock.LEVEL) == 0;
-                    if (blockstate2.getMaterial() == Material.LAVA && isFull && state.canSurvive(worldIn, blockpos) && worldIn.isUnobstructed(state, blockpos, ISelectionContext.empty())) {
-                        worldIn.setBlockAndUpdate(blockpos, state);
-                        if (!permanent) {
-                            worldIn.getBlockTicks().scheduleTick(blockpos, GLOSSED_MAGMA, MathHelper.nextInt(worldIn.random, 60, 120));
-                        }
-                    }
-                }
-            }
-        }
+        freezeFluid(worldIn, pos, radius, LAVA, Material.LAVA, permanent ? OBSIDIAN : GLOSSED_MAGMA, !permanent, true);
     }
 
     public static void freezeAllLava(Entity entity, World worldIn, BlockPos pos, int radius, boolean permanent) {
@@ -239,24 +163,34 @@ public class AreaUtils {
         if (GLOSSED_MAGMA == null && !permanent) {
             return;
         }
-        BlockState state = permanent ? OBSIDIAN.defaultBlockState() : GLOSSED_MAGMA.defaultBlockState();
-        float f = (float) Math.min(HORZ_MAX, radius);
-        float v = (float) Math.min(VERT_MAX, radius);
-        float f2 = f * f;
-
-        for (BlockPos blockpos : BlockPos.betweenClosed(pos.offset(-f, -v, -f), pos.offset(f, v, f))) {
-            double distance = blockpos.distSqr(entity.position(), true);
-            if (distance < f2) {
-                BlockState blockstate2 = worldIn.getBlockState(blockpos);
-                boolean isFull = blockstate2.getBlock() == LAVA && blockstate2.getValue(FlowingFluidBlock.LEVEL) == 0;
-                if (blockstate2.getMaterial() == Material.LAVA && isFull && state.canSurvive(worldIn, blockpos) && worldIn.isUnobstructed(state, blockpos, ISelectionContext.empty())) {
-                    worldIn.setBlockAndUpdate(blockpos, state);
-                    if (!permanent) {
-                        worldIn.getBlockTicks().scheduleTick(blockpos, GLOSSED_MAGMA, MathHelper.nextInt(worldIn.random, 60, 120));
-                    }
+        freezeFluid(worldIn, pos, radius, LAVA, Material.LAVA, permanent ? OBSIDIAN : GLOSSED_MAGMA, !permanent, false);
+    }
+
+    private static void freezeFluid(World worldIn, BlockPos pos, int radius, Block fluid, Material material, Block frozen, boolean scheduleTick, boolean surfaceOnly) {
+
+        BlockState state = frozen.defaultBlockState();
+        BlockMutationBatch batch = new BlockMutationBatch(worldIn);
+        BlockPos.Mutable above = new BlockPos.Mutable();
+
+        AreaIterator.forEachInSphere(worldIn, pos, radius, true, (iterPos, distance) -> {
+            if (surfaceOnly) {
+                above.set(iterPos.getX(), iterPos.getY() + 1, iterPos.getZ());
+                if (!worldIn.getBlockState(above).isAir(worldIn, above)) {
+                    return true;
                 }
             }
-        }
+            BlockState blockstate2 = worldIn.getBlockState(iterPos);
+            boolean isFull = blockstate2.getBlock() == fluid && blockstate2.getValue(FlowingFluidBlock.LEVEL) == 0;
+            if (blockstate2.getMaterial() == material && isFull && state.canSurvive(worldIn, iterPos) && worldIn.isUnobstructed(state, iterPos, ISelectionContext.empty())) {
+                if (scheduleTick) {
+                    batch.set(iterPos, state, MathHelper.nextInt(worldIn.random, 60, 120));
+                } else {
+                    batch.set(iterPos, state);
+                }
+            }
+            return true;
+        });
+        batch.apply(3);
     }
 
     public static boolean isValidSnowPosition(World worldIn, BlockPos pos) {
@@ -283,65 +217,42 @@ public class AreaUtils {
 
     public static void transformArea(Entity entity, World worldIn, BlockPos pos, BlockState replaceable, BlockState replacement, int radius, boolean requireAir) {
 
-        float f = (float) Math.min(HORZ_MAX, radius);
-        float v = (float) Math.min(VERT_MAX, radius);
-        float f2 = f * f;
-        BlockPos.Mutable mutable = new BlockPos.Mutable();
-
-        if (requireAir) {
-            for (BlockPos iterPos : BlockPos.betweenClosed(pos.offset(-f, -v, -f), pos.offset(f, v, f))) {
-                double distance = iterPos.distSqr(entity.position(), true);
-                if (distance < f2) {
-                    mutable.set(iterPos.getX(), iterPos.getY() + 1, iterPos.getZ());
-                    BlockState blockstate1 = worldIn.getBlockState(mutable);
-                    if (blockstate1.isAir(worldIn, mutable)) {
-                        if (worldIn.getBlockState(iterPos) == replaceable) {
-                            worldIn.setBlockAndUpdate(iterPos, replacement);
-                        }
-                    }
+        BlockMutationBatch batch = new BlockMutationBatch(worldIn);
+        BlockPos.Mutable above = new BlockPos.Mutable();
+
+        AreaIterator.forEachInSphere(worldIn, pos, radius, !replaceable.isAir(), (iterPos, distance) -> {
+            if (requireAir) {
+                above.set(iterPos.getX(), iterPos.getY() + 1, iterPos.getZ());
+                if (!worldIn.getBlockState(above).isAir(worldIn, above)) {
+                    return true;
                 }
             }
-        } else {
-            for (BlockPos iterPos : BlockPos.betweenClosed(pos.offset(-f, -v, -f), pos.offset(f, v, f))) {
-                double distance = iterPos.distSqr(entity.position(), true);
-                if (distance < f2) {
-                    if (worldIn.getBlockState(iterPos) == replaceable) {
-                        worldIn.setBlockAndUpdate(iterPos, replacement);
-                    }
-                }
+            if (worldIn.getBlockState(iterPos) == replaceable) {
+                batch.set(iterPos, replacement);
             }
-        }
+            return true;
+        });
+        batch.apply(3);
     }
 
     public static void transformArea(Entity entity, World worldIn, BlockPos pos, Set<BlockState> replaceable, BlockState replacement, int radius, boolean requireAir) {
 
-        float f = (float) Math.min(HORZ_MAX, radius);
-        float v = (float) Math.min(VERT_MAX, radius);
-        float f2 = f * f;
-        BlockPos.Mutable mutable = new BlockPos.Mutable();
-
-        if (requireAir) {
-            for (BlockPos blockpos : BlockPos.betweenClosed(pos.offset(-f, -v, -f), pos.offset(f, v, f))) {
-                double distance = blockpos.distSqr(entity.position(), true);
-                if (distance < f2) {
-                    mutable.set(blockpos.getX(), blockpos.getY() + 1, blockpos.getZ());
-                    BlockState blockstate1 = worldIn.getBlockState(mutable);
-                    if (blockstate1.isAir(worldIn, mutable)) {
-                        if (replaceable.contains(worldIn.getBlockState(blockpos))) {
-                            worldIn.setBlockAndUpdate(blockpos, replacement);
-                        }
-                    }
+        BlockMutationBatch batch = new BlockMutationBatch(worldIn);
+        BlockPos.Mutable above = new BlockPos.Mutable();
+
+        AreaIterator.forEachInSphere(worldIn, pos, radius, replaceable.stream().noneMatch(BlockState::isAir), (iterPos, distance) -> {
+            if (requireAir) {
+                above.set(iterPos.getX(), iterPos.getY() + 1, iterPos.getZ());
+                if (!worldIn.getBlockState(above).isAir(worldIn, above)) {
+                    return true;
                 }
             }
-        } else {
-            for (BlockPos iterPos : BlockPos.betweenClosed(pos.offset(-f, -v, -f), pos.offset(f, v, f))) {
-                if (iterPos.closerThan(entity.position(), f)) {
-                    if (replaceable.contains(worldIn.getBlockState(iterPos))) {
-                        worldIn.setBlockAndUpdate(iterPos, replacement);
-                    }
-                }
+            if (replaceable.contains(worldIn.getBlockState(iterPos))) {
+                batch.set(iterPos, replacement);
             }
-        }
+            return true;
+        });
+        batch.apply(3);
     }
 
     public static void transformGrass(Entity entity, World worldIn, BlockPos pos, int radius) {
@@ -351,90 +262,71 @@ public class AreaUtils {
 
     public static void transformMycelium(Entity entity, World worldIn, BlockPos pos, int radius) {
 
-        Set<BlockState> replaceable = new ObjectOpenHashSet<>();
-        Collections.addAll(replaceable, DIRT.defaultBlockState(), GRASS_BLOCK.defaultBlockState());
-        transformArea(entity, worldIn, pos, replaceable, MYCELIUM.defaultBlockState(), radius, true);
+        transformArea(entity, worldIn, pos, MYCELIUM_REPLACEABLE, MYCELIUM.defaultBlockState(), radius, true);
     }
 
     public static void transformSignalAir(Entity entity, World worldIn, BlockPos pos, int radius) {
 
-        Set<BlockState> replaceable = new ObjectOpenHashSet<>();
-        Collections.addAll(replaceable, AIR.defaultBlockState(), CAVE_AIR.defaultBlockState());
-        transformArea(entity, worldIn, pos, replaceable, SIGNAL_AIR.defaultBlockState(), radius, false);
+        transformArea(entity, worldIn, pos, AIR_STATES, SIGNAL_AIR.defaultBlockState(), radius, false);
     }
 
     public static void transformGlowAir(Entity entity, World worldIn, BlockPos pos, int radius) {
 
-        Set<BlockState> replaceable = new ObjectOpenHashSet<>();
-        Collections.addAll(replaceable, AIR.defaultBlockState(), CAVE_AIR.defaultBlockState());
-        transformArea(entity, worldIn, pos, replaceable, GLOW_AIR.defaultBlockState(), radius, false);
+        transformArea(entity, worldIn, pos, AIR_STATES, GLOW_AIR.defaultBlockState(), radius, false);
     }
 
     public static void transformEnderAir(Entity entity, World worldIn, BlockPos pos, int radius) {
 
-        Set<BlockState> replaceable = new ObjectOpenHashSet<>();
-        Collections.addAll(replaceable, AIR.defaultBlockState(), CAVE_AIR.defaultBlockState());
-        transformArea(entity, worldIn, pos, replaceable, ENDER_AIR.defaultBlockState(), radius, false);
+        transformArea(entity, worldIn, pos, AIR_STATES, ENDER_AIR.defaultBlockState(), radius, false);
     }
 
     public static void zapNearbyGround(Entity entity, World worldIn, BlockPos pos, int radius, double chance, int max) {
 
-        float f = (float) Math.min(HORZ_MAX, radius);
-        float v = (float) Math.min(VERT_MAX, radius);
-        float f2 = f * f;
-        BlockPos.Mutable mutable = new BlockPos.Mutable();
-        int count = 0;
-
-        for (BlockPos blockpos : BlockPos.betweenClosed(pos.offset(-f, -v, -f), pos.offset(f, v, f))) {
-            if (count >= max) {
-                return;
-            }
-            double distance = blockpos.distSqr(entity.position(), true);
-            if (distance < f2) {
-                mutable.set(blockpos.getX(), blockpos.getY() + 1, blockpos.getZ());
-                BlockState blockstate1 = worldIn.getBlockState(mutable);
-                if (blockstate1.isAir(worldIn, mutable)) {
-                    if (isValidLightningBoltPosition(worldIn, mutable, chance)) {
-                        worldIn.setBlockAndUpdate(mutable, LIGHTNING_AIR.defaultBlockState());
-                        ++count;
-                    }
+        if (max <= 0) {
+            return;
+        }
+        BlockPos.Mutable above = new BlockPos.Mutable();
+        int[] count = {0};
+
+        AreaIterator.forEachInSphere(worldIn, pos, radius, true, (iterPos, distance) -> {
+            above.set(iterPos.getX(), iterPos.getY() + 1, iterPos.getZ());
+            if (worldIn.getBlockState(above).isAir(worldIn, above)) {
+                if (isValidLightningBoltPosition(worldIn, above, chance)) {
+                    worldIn.setBlockAndUpdate(above, LIGHTNING_AIR.defaultBlockState());
+                    return ++count[0] < max;
                 }
             }
-        }
+            return true;
+        });
     }
 
     public static void growMushrooms(Entity entity, World worldIn, BlockPos pos, int radius, int count) {
 
-        float f = (float) Math.min(HORZ_MAX, radius);
-        float v = (float) Math.min(VERT_MAX, radius);
-        float f2 = f * f;
-        int grow = 0;
-        BlockPos.Mutable mutable = new BlockPos.Mutable();
+        int f = Math.min(HORZ_MAX, radius);
+        double f2 = f * f;
+        int[] grow = {0};
+        BlockPos.Mutable above = new BlockPos.Mutable();
 
-        mutable.set(entity.blockPosition().above());
-        BlockState blockstate1 = worldIn.getBlockState(mutable);
-        if (blockstate1.isAir(worldIn, mutable)) {
+        above.set(entity.blockPosition().above());
+        if (worldIn.getBlockState(above).isAir(worldIn, above)) {
             if (isValidMushroomPosition(worldIn, entity.blockPosition(), 1.0)) {
-                worldIn.setBlockAndUpdate(mutable, worldIn.random.nextBoolean() ? BROWN_MUSHROOM.defaultBlockState() : RED_MUSHROOM.defaultBlockState());
-                ++grow;
+                worldIn.setBlockAndUpdate(above, worldIn.random.nextBoolean() ? BROWN_MUSHROOM.defaultBlockState() : RED_MUSHROOM.defaultBlockState());
+                ++grow[0];
             }
         }
-        for (BlockPos iterPos : BlockPos.betweenClosed(pos.offset(-f, -v, -f), pos.offset(f, v, f))) {
-            if (grow >= count) {
-                return;
-            }
-            double distance = iterPos.distSqr(entity.position(), true);
-            if (distance < f2) {
-                mutable.set(iterPos.getX(), iterPos.getY() + 1, iterPos.getZ());
-                blockstate1 = worldIn.getBlockState(mutable);
-                if (blockstate1.isAir(worldIn, mutable)) {
-                    if (isValidMushroomPosition(worldIn, iterPos, 0.5 - (distance / f2))) {
-                        worldIn.setBlockAndUpdate(mutable, worldIn.random.nextBoolean() ? BROWN_MUSHROOM.defaultBlockState() : RED_MUSHROOM.defaultBlockState());
-                        ++grow;
-                    }
+        if (grow[0] >= count) {
+            return;
+        }
+        AreaIterator.forEachInSphere(worldIn, pos, radius, true, (iterPos, distance) -> {
+            above.set(iterPos.getX(), iterPos.getY() + 1, iterPos.getZ());
+            if (worldIn.getBlockState(above).isAir(worldIn, above)) {
+                if (isValidMushroomPosition(worldIn, iterPos, 0.5 - (distance / f2))) {
+                    worldIn.setBlockAndUpdate(above, worldIn.random.nextBoolean() ? BROWN_MUSHROOM.defaultBlockState() : RED_MUSHROOM.defaultBlockState());
+                    return ++grow[0] < count;
                 }
             }
-        }
+            return true;
+        });
     }
 
     private static boolean isValidMushroomPosition(World worldIn, BlockPos pos, double chance) {
@@ -445,96 +337,54 @@ public class AreaUtils {
 
     public static void growPlants(Entity entity, World worldIn, BlockPos pos, int radius) {
 
-        float f = (float) Math.min(HORZ_MAX, radius);
-        float v = (float) Math.min(VERT_MAX, radius);
-        float f2 = f * f;
-
-        BlockState state;
-        for (BlockPos iterPos : BlockPos.betweenClosed(pos.offset(-f, -v, -f), pos.offset(f, v, f))) {
-            double distance = iterPos.distSqr(entity.position(), true);
-            if (distance < f2) {
-                state = worldIn.getBlockState(iterPos);
-                if (state.getBlock() instanceof IGrowable) {
-                    IGrowable growable = (IGrowable) state.getBlock();
-                    if (growable.isValidBonemealTarget(worldIn, iterPos, state, worldIn.isClientSide)) {
-                        if (!worldIn.isClientSide) {
-                            if (growable.isBonemealSuccess(worldIn, worldIn.random, iterPos, state)) {
-                                // TODO: Remove try/catch when Mojang fixes base issue.
-                                try {
-                                    growable.performBonemeal((ServerWorld) worldIn, worldIn.random, iterPos, state);
-                                } catch (Exception e) {
-                                    // Vanilla issue causes bamboo to crash if grown close to world height
-                                    if (!(growable instanceof BambooBlock)) {
-                                        throw e;
-                                    }
-                                }
-                                // growable.grow((ServerWorld) worldIn, worldIn.rand, pos, state);
-                                // ++grow;
-                            }
-                        }
-                    }
-                }
-            }
-        }
+        AreaIterator.forEachInSphere(worldIn, pos, radius, true, (iterPos, distance) -> {
+            growPlant(worldIn, iterPos, worldIn.getBlockState(iterPos));
+            return true;
+        });
     }
 
     public static void growPlants(Entity entity, World worldIn, BlockPos pos, int radius, int count) {
 
-        float f = (float) Math.min(HORZ_MAX, radius);
-        float v = (float) Math.min(VERT_MAX, radius);
-        float f2 = f * f;
-        int grow = 0;
-
-        BlockState state = worldIn.getBlockState(entity.blockPosition());
-        if (state.getBlock() instanceof IGrowable) {
-            IGrowable growable = (IGrowable) state.getBlock();
-            if (growable.isValidBonemealTarget(worldIn, pos, state, worldIn.isClientSide)) {
-                if (!worldIn.isClientSide) {
-                    if (growable.isBonemealSuccess(worldIn, worldIn.random, pos, state)) {
-                        // TODO: Remove try/catch when Mojang fixes base issue.
-                        try {
-                            growable.performBonemeal((ServerWorld) worldIn, worldIn.random, pos, state);
-                            ++grow;
-                        } catch (Exception e) {
-                            // Vanilla issue causes bamboo to crash if grown close to world height
-                            if (!(growable instanceof BambooBlock)) {
-                                throw e;
-                            }
-                        }
-                    }
-                }
-            }
+        int[] grow = {0};
+
+        if (growPlant(worldIn, pos, worldIn.getBlockState(entity.blockPosition()))) {
+            ++grow[0];
+        }
+        if (grow[0] >= count) {
+            return;
         }
-        for (BlockPos iterPos : BlockPos.betweenClosed(pos.offset(-f, -v, -f), pos.offset(f, v, f))) {
-            if (grow >= count) {
-                return;
+        AreaIterator.forEachInSphere(worldIn, pos, radius, true, (iterPos, distance) -> {
+            if (growPlant(worldIn, iterPos, worldIn.getBlockState(iterPos))) {
+                return ++grow[0] < count;
             }
-            double distance = iterPos.distSqr(entity.position(), true);
-            if (distance < f2) {
-                state = worldIn.getBlockState(iterPos);
-                if (state.getBlock() instanceof IGrowable) {
-                    IGrowable growable = (IGrowable) state.getBlock();
-                    if (growable.isValidBonemealTarget(worldIn, iterPos, state, worldIn.isClientSide)) {
-                        if (!worldIn.isClientSide) {
-                            if (growable.isBonemealSuccess(worldIn, worldIn.random, iterPos, state)) {
-                                // TODO: Remove try/catch when Mojang fixes base issue.
-                                try {
-                                    growable.performBonemeal((ServerWorld) worldIn, worldIn.random, iterPos, state);
-                                    ++grow;
-                                } catch (Exception e) {
-                                    // Vanilla issue causes bamboo to crash if grown close to world height
-                                    if (!(growable instanceof BambooBlock)) {
-                                        throw e;
-                                    }
-                                }
-                                // growable.grow((ServerWorld) worldIn, worldIn.rand, pos, state);
-                                // ++grow;
-                            }
-                        }
-                    }
+            return true;
+        });
+    }
+
+    /**
+     * Applies a bonemeal effect at the given position.
+     *
+     * @return TRUE if the plant was grown.
+     */
+    private static boolean growPlant(World worldIn, BlockPos pos, BlockState state) {
+
+        if (worldIn.isClientSide || !(state.getBlock() instanceof IGrowable)) {
+            return false;
+        }
+        IGrowable growable = (IGrowable) state.getBlock();
+        if (growable.isValidBonemealTarget(worldIn, pos, state, false) && growable.isBonemealSuccess(worldIn, worldIn.random, pos, state)) {
+            // TODO: Remove try/catch when Mojang fixes base issue.
+            try {
+                growable.performBonemeal((ServerWorld) worldIn, worldIn.random, pos, state);
+                return true;
+            } catch (Exception e) {
+                // Vanilla issue causes bamboo to crash if grown close to world height
+                if (!(growable instanceof BambooBlock)) {
+                    throw e;
                 }
             }
         }
+        return false;
     }
     // endregion
 }
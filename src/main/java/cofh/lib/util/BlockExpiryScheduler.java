@@ -0,0 +1,108 @@
+package cofh.lib.util;
+
+import cofh.lib.block.ITimedBlock;
+import cofh.lib.capability.CapabilityTimedBlocks;
+import cofh.lib.capability.ITimedBlockStorage;
+import cofh.lib.tileentity.ITimedTile;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.block.BlockState;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.server.ServerWorld;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Per-world expiry service for timed blocks. Positions are held in a {@link TimingWheel} and handled in one batch
+ * when due, so nothing needs to tick while waiting.
+ * <p>
+ * Handles both ITimedTile tiles and ITimedBlock blocks backed by the chunk's ITimedBlockStorage. Only loaded positions
+ * are handled; entries for unloaded chunks are dropped and scheduled again when the chunk (or tile) loads, from the
+ * persisted expiry. Server thread only.
+ *
+ * @author King Lemming
+ */
+public class BlockExpiryScheduler {
+
+    private BlockExpiryScheduler() {
+
+    }
+
+    private static final Map<IWorld, TimingWheel> WHEELS = new IdentityHashMap<>();
+    private static final LongArrayList DUE = new LongArrayList();
+
+    public static void schedule(World world, BlockPos pos, long expiry) {
+
+        if (!(world instanceof ServerWorld)) {
+            return;
+        }
+        TimingWheel wheel = WHEELS.get(world);
+        if (wheel == null) {
+            wheel = new TimingWheel(world.getGameTime());
+            WHEELS.put(world, wheel);
+        }
+        wheel.schedule(pos.asLong(), expiry);
+    }
+
+    public static void tick(ServerWorld world) {
+
+        TimingWheel wheel = WHEELS.get(world);
+        if (wheel == null || wheel.isEmpty()) {
+            return;
+        }
+        long time = world.getGameTime();
+        wheel.advance(time, DUE::add);
+
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (int i = 0; i < DUE.size(); ++i) {
+            pos.set(DUE.getLong(i));
+            if (!world.hasChunkAt(pos)) {
+                continue;
+            }
+            // Rescheduled entries leave stale copies behind; only act on the current expiry.
+            BlockState state = world.getBlockState(pos);
+            if (state.getBlock() instanceof ITimedBlock) {
+                ITimedBlockStorage storage = CapabilityTimedBlocks.get(world, pos);
+                if (storage != null) {
+                    long expiry = storage.getExpiry(pos);
+                    if (expiry >= 0 && expiry <= time) {
+                        storage.remove(pos);
+                        ((ITimedBlock) state.getBlock()).onExpired(world, pos.immutable(), state);
+                    }
+                }
+                continue;
+            }
+            TileEntity tile = world.getBlockEntity(pos);
+            if (tile instanceof ITimedTile && ((ITimedTile) tile).getExpiry() >= 0 && ((ITimedTile) tile).getExpiry() <= time) {
+                ((ITimedTile) tile).expire();
+            }
+        }
+        DUE.clear();
+    }
+
+    /**
+     * Schedules every entry of a chunk's timed block storage; call when the chunk loads.
+     */
+    public static void onChunkLoad(World world, Chunk chunk) {
+
+        ITimedBlockStorage storage = CapabilityTimedBlocks.get(chunk);
+        if (storage != null && !storage.isEmpty()) {
+            storage.forEach(chunk.getPos().x, chunk.getPos().z, (pos, expiry) -> schedule(world, pos, expiry));
+        }
+    }
+
+    public static void unload(IWorld world) {
+
+        WHEELS.remove(world);
+    }
+
+    public static void clear() {
+
+        WHEELS.clear();
+    }
+
+}
@@ -0,0 +1,132 @@
+package cofh.lib.util;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.ForgeEventFactory;
+
+import java.util.EnumSet;
+
+import static cofh.lib.util.constants.Constants.DIRECTIONS;
+
+/**
+ * Collects block changes for an area effect and applies them in one pass, ordered by chunk section.
+ * <p>
+ * Blocks are set without neighbor updates, so nothing reacts to a half-applied area. If neighbor updates are requested,
+ * they are issued afterwards - and only to blocks outside the batch, since everything inside it was just placed
+ * deliberately. They still go through Forge's NeighborNotifyEvent, and comparators are updated as for a normal
+ * setBlock().
+ *
+ * @author King Lemming
+ */
+public class BlockMutationBatch {
+
+    protected final World world;
+    protected final Long2ObjectLinkedOpenHashMap<BlockState> changes = new Long2ObjectLinkedOpenHashMap<>();
+    protected final Long2IntOpenHashMap ticks = new Long2IntOpenHashMap();
+
+    public BlockMutationBatch(World world) {
+
+        this.world = world;
+    }
+
+    public boolean isEmpty() {
+
+        return changes.isEmpty();
+    }
+
+    public int size() {
+
+        return changes.size();
+    }
+
+    public void set(BlockPos pos, BlockState state) {
+
+        changes.put(pos.asLong(), state);
+    }
+
+    /**
+     * Sets a block and schedules a tick for it once applied.
+     */
+    public void set(BlockPos pos, BlockState state, int tickDelay) {
+
+        long key = pos.asLong();
+        changes.put(key, state);
+        ticks.put(key, tickDelay);
+    }
+
+    /**
+     * Applies all changes. Flags follow World.setBlock(); only bits 1 (notify neighbors) and 2 (send to clients) are
+     * honored.
+     *
+     * @return Number of blocks actually changed.
+     */
+    public int apply(int flags) {
+
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        long[] keys = changes.keySet().toLongArray();
+        LongArrays.quickSort(keys, (a, b) -> Long.compare(sectionKey(a), sectionKey(b)));
+
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        int changed = 0;
+        for (int i = 0; i < keys.length; ++i) {
+            pos.set(keys[i]);
+            BlockState state = changes.get(keys[i]);
+            if (world.setBlock(pos, state, flags & 2)) {
+                keys[changed++] = keys[i];
+                if (ticks.containsKey(keys[i])) {
+                    world.getBlockTicks().scheduleTick(pos, state.getBlock(), ticks.get(keys[i]));
+                }
+            }
+        }
+        if ((flags & 1) != 0) {
+            BlockPos.Mutable adjPos = new BlockPos.Mutable();
+            for (int i = 0; i < changed; ++i) {
+                BlockPos changedPos = BlockPos.of(keys[i]);
+                BlockState state = changes.get(keys[i]);
+                Block block = state.getBlock();
+                EnumSet<Direction> sides = EnumSet.noneOf(Direction.class);
+                for (Direction dir : DIRECTIONS) {
+                    adjPos.setWithOffset(changedPos, dir);
+                    if (!changes.containsKey(adjPos.asLong())) {
+                        sides.add(dir);
+                    }
+                }
+                if (!sides.isEmpty() && !ForgeEventFactory.onNeighborNotify(world, changedPos, state, sides, false).isCanceled()) {
+                    for (Direction dir : sides) {
+                        world.neighborChanged(adjPos.setWithOffset(changedPos, dir), block, changedPos);
+                    }
+                }
+                if (!world.isClientSide && state.hasAnalogOutputSignal()) {
+                    world.updateNeighbourForOutputSignal(changedPos, block);
+                }
+            }
+        }
+        clear();
+        return changed;
+    }
+
+    public void clear() {
+
+        changes.clear();
+        ticks.clear();
+    }
+
+    // region HELPERS
+    protected static long sectionKey(long pos) {
+
+        // Chunk X, chunk Z, then section Y - packed so sections of the same chunk sort together.
+        long x = BlockPos.getX(pos) >> 4;
+        long z = BlockPos.getZ(pos) >> 4;
+        long y = BlockPos.getY(pos) >> 4;
+        return (x & 0x3FFFFF) << 42 | (z & 0x3FFFFF) << 20 | (y & 0xFFFFF);
+    }
+    // endregion
+}
@@ -0,0 +1,86 @@
+package cofh.lib.util;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.block.Block;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.items.ItemHandlerHelper;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Aggregates item drops from a multi-block harvest, merged whenever they could stack (item, tag and capabilities).
+ * The first stack of each kind is kept as the template, so nothing outside the tag is lost.
+ * <p>
+ * Once the harvest is done, the totals are handed out either as the fewest possible full stacks at a single position or
+ * straight into a player's inventory (with anything which does not fit dropped as usual).
+ *
+ * @author King Lemming
+ */
+public class HarvestDropCollector {
+
+    // A harvest yields only a handful of distinct drops, so a linear search beats hashing here.
+    protected final List<ItemStack> templates = new ArrayList<>();
+    protected final IntArrayList counts = new IntArrayList();
+
+    public boolean isEmpty() {
+
+        return templates.isEmpty();
+    }
+
+    public void add(ItemStack stack) {
+
+        if (stack.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < templates.size(); ++i) {
+            if (ItemHandlerHelper.canItemStacksStack(templates.get(i), stack)) {
+                counts.set(i, counts.getInt(i) + stack.getCount());
+                return;
+            }
+        }
+        templates.add(stack.copy());
+        counts.add(stack.getCount());
+    }
+
+    /**
+     * Hands out all collected drops and clears the collector.
+     *
+     * @param player If non-null, drops are inserted into this player's inventory first.
+     * @return Number of item entities spawned.
+     */
+    public int deliver(World world, BlockPos pos, @Nullable PlayerEntity player) {
+
+        int spawned = 0;
+        for (int i = 0; i < templates.size(); ++i) {
+            ItemStack template = templates.get(i);
+            int remaining = counts.getInt(i);
+            while (remaining > 0) {
+                ItemStack stack = template.copy();
+                stack.setCount(Math.min(remaining, template.getMaxStackSize()));
+                remaining -= stack.getCount();
+
+                if (player != null) {
+                    player.inventory.add(stack);
+                }
+                if (!stack.isEmpty()) {
+                    Block.popResource(world, pos, stack);
+                    ++spawned;
+                }
+            }
+        }
+        clear();
+        return spawned;
+    }
+
+    public void clear() {
+
+        templates.clear();
+        counts.clear();
+    }
+
+}
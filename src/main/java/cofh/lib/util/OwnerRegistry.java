@@ -0,0 +1,195 @@
+package cofh.lib.util;
+
+import cofh.core.network.packet.client.OwnerTablePacket;
+import cofh.lib.util.helpers.SecurityHelper;
+import com.google.common.base.Strings;
+import com.mojang.authlib.GameProfile;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.storage.WorldSavedData;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static cofh.lib.util.constants.NBTTags.*;
+import static net.minecraftforge.common.util.Constants.NBT.TAG_COMPOUND;
+
+/**
+ * World-level table of owner GameProfiles, interned as small int ids.
+ * Secured tiles sync the id rather than the full profile. Ids are local to one world, so NBT must always keep the
+ * UUID and name - never persist an id.
+ * Clients are sent the full table on login and each new or renamed entry as it changes.
+ * <p>
+ * Server and client tables are kept apart (both exist in single player) and the side is always chosen by the caller,
+ * from the world in question. Lookups do not lock; only registering or renaming an owner does.
+ */
+public class OwnerRegistry {
+
+    private OwnerRegistry() {
+
+    }
+
+    public static final int DEFAULT_ID = 0;
+
+    private static final String TAG_OWNERS = "cofh:owners";
+
+    private static volatile OwnerData serverData;
+
+    private static final Map<UUID, Integer> CLIENT_IDS = new ConcurrentHashMap<>();
+    private static final Map<Integer, GameProfile> CLIENT_PROFILES = new ConcurrentHashMap<>();
+
+    private static OwnerData owners() {
+
+        OwnerData data = serverData;
+        if (data == null) {
+            synchronized (OwnerRegistry.class) {
+                data = serverData;
+                if (data == null) {
+                    MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+                    data = server.overworld().getDataStorage().computeIfAbsent(() -> new OwnerData(TAG_OWNERS), TAG_OWNERS);
+                    serverData = data;
+                }
+            }
+        }
+        return data;
+    }
+
+    // region PASSTHROUGH
+
+    /**
+     * Returns the id for a profile. On the server, unknown profiles are registered; on the client, unknown profiles are the default id.
+     *
+     * @param client Whether the lookup is for a client world (world.isClientSide).
+     */
+    public static int getId(GameProfile profile, boolean client) {
+
+        if (profile == null || SecurityHelper.isDefaultProfile(profile)) {
+            return DEFAULT_ID;
+        }
+        if (client) {
+            return CLIENT_IDS.getOrDefault(profile.getId(), DEFAULT_ID);
+        }
+        return owners().getId(profile);
+    }
+
+    /**
+     * @param client Whether the lookup is for a client world (world.isClientSide).
+     */
+    public static GameProfile getProfile(int id, boolean client) {
+
+        if (id == DEFAULT_ID) {
+            return SecurityHelper.DEFAULT_GAME_PROFILE;
+        }
+        if (client) {
+            return CLIENT_PROFILES.getOrDefault(id, SecurityHelper.DEFAULT_GAME_PROFILE);
+        }
+        return owners().profiles.getOrDefault(id, SecurityHelper.DEFAULT_GAME_PROFILE);
+    }
+
+    /**
+     * Picks up any rename for a known owner, then sends the player the full table.
+     */
+    public static void onPlayerLogin(ServerPlayerEntity player) {
+
+        OwnerData data = owners();
+        if (data.ids.containsKey(player.getGameProfile().getId())) {
+            data.getId(player.getGameProfile());
+        }
+        if (!data.profiles.isEmpty()) {
+            OwnerTablePacket.sendToPlayer(data.profiles, player);
+        }
+    }
+
+    public static void clearServer() {
+
+        serverData = null;
+    }
+
+    public static void setClientProfile(int id, GameProfile profile) {
+
+        // Profile first, so an id is never visible before what it resolves to.
+        CLIENT_PROFILES.put(id, profile);
+        CLIENT_IDS.put(profile.getId(), id);
+    }
+
+    public static void clearClient() {
+
+        CLIENT_IDS.clear();
+        CLIENT_PROFILES.clear();
+    }
+    // endregion
+
+    // region OWNER DATA
+    private static class OwnerData extends WorldSavedData {
+
+        private final Map<UUID, Integer> ids = new ConcurrentHashMap<>();
+        private final Map<Integer, GameProfile> profiles = new ConcurrentHashMap<>();
+        private int nextId = DEFAULT_ID + 1;
+
+        OwnerData(String name) {
+
+            super(name);
+        }
+
+        int getId(GameProfile profile) {
+
+            Integer id = ids.get(profile.getId());
+            if (id != null && isCurrent(id, profile)) {
+                return id;
+            }
+            synchronized (this) {
+                id = ids.get(profile.getId());
+                if (id == null) {
+                    id = nextId++;
+                } else if (isCurrent(id, profile)) {
+                    return id;
+                }
+                profiles.put(id, profile);
+                ids.put(profile.getId(), id);
+            }
+            this.setDirty();
+            OwnerTablePacket.sendToClients(id, profile);
+            return id;
+        }
+
+        private boolean isCurrent(int id, GameProfile profile) {
+
+            return profile.getName() == null || profile.getName().equals(profiles.get(id).getName());
+        }
+
+        @Override
+        public void load(CompoundNBT nbt) {
+
+            ListNBT list = nbt.getList(TAG_OWNERS, TAG_COMPOUND);
+            for (int i = 0; i < list.size(); ++i) {
+                CompoundNBT subTag = list.getCompound(i);
+                int id = subTag.getInt(TAG_INDEX);
+                GameProfile profile = new GameProfile(UUID.fromString(subTag.getString(TAG_UUID)), subTag.getString(TAG_NAME));
+                ids.put(profile.getId(), id);
+                profiles.put(id, profile);
+                nextId = Math.max(nextId, id + 1);
+            }
+        }
+
+        @Override
+        public CompoundNBT save(CompoundNBT nbt) {
+
+            ListNBT list = new ListNBT();
+            for (Map.Entry<Integer, GameProfile> entry : profiles.entrySet()) {
+                CompoundNBT subTag = new CompoundNBT();
+                subTag.putInt(TAG_INDEX, entry.getKey());
+                subTag.putString(TAG_UUID, entry.getValue().getId().toString());
+                subTag.putString(TAG_NAME, Strings.nullToEmpty(entry.getValue().getName()));
+                list.add(subTag);
+            }
+            nbt.put(TAG_OWNERS, list);
+            return nbt;
+        }
+
+    }
+    // endregion
+}
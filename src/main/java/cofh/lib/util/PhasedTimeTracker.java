@@ -0,0 +1,48 @@
+package cofh.lib.util;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * A time tracker which fires on (or, if not polled every tick, just after) ticks matching a phase derived from a
+ * position, so that many trackers using the same delay are spread evenly across it instead of lining up.
+ *
+ * @author King Lemming
+ */
+public class PhasedTimeTracker extends TimeTracker {
+
+    protected final int phase;
+
+    public PhasedTimeTracker(BlockPos pos) {
+
+        this(Utils.getTimePhase(pos));
+    }
+
+    public PhasedTimeTracker(int phase) {
+
+        this.phase = phase & Integer.MAX_VALUE;
+    }
+
+    @Override
+    public boolean hasDelayPassed(World world, int delay) {
+
+        long currentTime = world.getGameTime();
+
+        if (currentTime < lastMark) {
+            lastMark = currentTime;
+            return false;
+        } else if (delay <= 1) {
+            lastMark = currentTime;
+            return true;
+        }
+        // Fire once the delay has passed and a phase-aligned tick has come up since the last mark - whether or not
+        // this tracker happened to be polled on that exact tick. Marking the aligned tick keeps the phase.
+        long aligned = currentTime - Math.floorMod(currentTime + phase, (long) delay);
+        if (lastMark + delay <= currentTime && aligned > lastMark) {
+            lastMark = aligned;
+            return true;
+        }
+        return false;
+    }
+
+}
@@ -8,10 +8,13 @@ import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.world.storage.WorldSavedData;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static cofh.lib.util.constants.NBTTags.TAG_NAME;
 import static cofh.lib.util.constants.NBTTags.TAG_UUID;
@@ -25,6 +28,8 @@ public class SocialUtils {
 
     private static final String TAG_FRIENDS = "cofh:friends";
 
+    private static final AtomicInteger VERSION = new AtomicInteger();
+
     private static FriendData friends(ServerPlayerEntity player) {
 
         return player.getLevel().getDataStorage().computeIfAbsent(() -> new FriendData(TAG_FRIENDS), TAG_FRIENDS);
@@ -57,10 +62,20 @@ public class SocialUtils {
     }
     // endregion
 
+    /**
+     * Incremented whenever any friend list changes; callers may use it to invalidate cached access checks.
+     */
+    public static int getFriendVersion() {
+
+        return VERSION.get();
+    }
+
     // region FRIEND DATA
     private static class FriendData extends WorldSavedData {
 
-        private final Map<String, Set<GameProfile>> friendLists = new TreeMap<>();
+        private final Map<UUID, Set<GameProfile>> friendLists = new TreeMap<>();
+        // Read-only view for access checks: owner -> sorted (most, least) UUID bit pairs of friends.
+        private final Map<UUID, long[]> friendIndex = new ConcurrentHashMap<>();
 
         FriendData(String name) {
 
@@ -72,13 +87,14 @@ public class SocialUtils {
             if (player == null || friend == null) {
                 return false;
             }
-            String playerUUID = player.getGameProfile().getId().toString();
+            UUID playerUUID = player.getGameProfile().getId();
             Set<GameProfile> set = friendLists.get(playerUUID);
             if (set == null) {
                 set = new ObjectOpenHashSet<>();
             }
             set.add(friend);
             friendLists.put(playerUUID, set);
+            updateIndex(playerUUID);
             this.setDirty();
             return true;
         }
@@ -88,10 +104,12 @@ public class SocialUtils {
             if (player == null || friend == null) {
                 return false;
             }
-            String playerUUID = player.getGameProfile().getId().toString();
+            UUID playerUUID = player.getGameProfile().getId();
             Set<GameProfile> set = friendLists.get(playerUUID);
+            boolean removed = set != null && set.remove(friend);
+            updateIndex(playerUUID);
             this.setDirty();
-            return set != null && set.remove(friend);
+            return removed;
         }
 
         public boolean clearFriendList(PlayerEntity player) {
@@ -99,7 +117,9 @@ public class SocialUtils {
             if (player == null) {
                 return false;
             }
-            friendLists.remove(player.getGameProfile().getId().toString());
+            UUID playerUUID = player.getGameProfile().getId();
+            friendLists.remove(playerUUID);
+            updateIndex(playerUUID);
             this.setDirty();
             return true;
         }
@@ -110,6 +130,8 @@ public class SocialUtils {
                 return false;
             }
             friendLists.clear();
+            friendIndex.clear();
+            VERSION.incrementAndGet();
             this.setDirty();
             return true;
         }
@@ -119,13 +141,58 @@ public class SocialUtils {
             if (owner == null || player == null) {
                 return false;
             }
-            String friendName = player.getGameProfile().getName();
-            if (friendName.equals(owner.getName())) {
+            GameProfile profile = player.getGameProfile();
+            if (owner.getId().equals(profile.getId()) || profile.getName().equals(owner.getName())) {
                 return true;
             }
-            String playerUUID = owner.getId().toString();
-            Set<GameProfile> set = friendLists.get(playerUUID);
-            return set != null && set.contains(player.getGameProfile());
+            long[] friends = friendIndex.get(owner.getId());
+            return friends != null && contains(friends, profile.getId());
+        }
+
+        private void updateIndex(UUID owner) {
+
+            Set<GameProfile> set = friendLists.get(owner);
+            if (set == null || set.isEmpty()) {
+                friendIndex.remove(owner);
+            } else {
+                UUID[] sorted = new UUID[set.size()];
+                int i = 0;
+                for (GameProfile friend : set) {
+                    sorted[i++] = friend.getId();
+                }
+                Arrays.sort(sorted);
+                long[] bits = new long[sorted.length * 2];
+                for (i = 0; i < sorted.length; ++i) {
+                    bits[2 * i] = sorted[i].getMostSignificantBits();
+                    bits[2 * i + 1] = sorted[i].getLeastSignificantBits();
+                }
+                friendIndex.put(owner, bits);
+            }
+            VERSION.incrementAndGet();
+        }
+
+        // Binary search over pairs; ordering matches UUID.compareTo.
+        private static boolean contains(long[] bits, UUID uuid) {
+
+            long most = uuid.getMostSignificantBits();
+            long least = uuid.getLeastSignificantBits();
+            int low = 0;
+            int high = bits.length / 2 - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = Long.compare(bits[2 * mid], most);
+                if (cmp == 0) {
+                    cmp = Long.compare(bits[2 * mid + 1], least);
+                }
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
         }
 
         @Override
@@ -138,14 +205,16 @@ public class SocialUtils {
                     CompoundNBT subTag = list.getCompound(i);
                     friendList.add(new GameProfile(UUID.fromString(subTag.getString(TAG_UUID)), subTag.getString(TAG_NAME)));
                 }
-                friendLists.put(player, friendList);
+                UUID playerUUID = UUID.fromString(player);
+                friendLists.put(playerUUID, friendList);
+                updateIndex(playerUUID);
             }
         }
 
         @Override
         public CompoundNBT save(CompoundNBT nbt) {
 
-            for (Map.Entry<String, Set<GameProfile>> friendList : friendLists.entrySet()) {
+            for (Map.Entry<UUID, Set<GameProfile>> friendList : friendLists.entrySet()) {
                 ListNBT list = new ListNBT();
                 for (GameProfile friend : friendList.getValue()) {
                     CompoundNBT subTag = new CompoundNBT();
@@ -153,7 +222,7 @@ public class SocialUtils {
                     subTag.putString(TAG_NAME, friend.getName());
                     list.add(subTag);
                 }
-                nbt.put(friendList.getKey(), list);
+                nbt.put(friendList.getKey().toString(), list);
             }
             return nbt;
         }
@@ -9,7 +9,7 @@ import net.minecraft.world.World;
  */
 public class TimeTracker {
 
-    private long lastMark = Long.MIN_VALUE;
+    protected long lastMark = Long.MIN_VALUE;
 
     public boolean hasDelayPassed(World world, int delay) {
 
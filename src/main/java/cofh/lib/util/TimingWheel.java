@@ -0,0 +1,133 @@
+package cofh.lib.util;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Two-level hierarchical timing wheel of long keys (e.g. packed BlockPos) against an absolute expiry tick.
+ * <p>
+ * The inner wheel has one slot per tick for the next 256 ticks, the outer wheel one slot per 256 ticks for the next
+ * 16384; anything further out waits in an overflow list. Entries are cascaded inward as their slot comes up, so
+ * scheduling is O(1) and each tick only touches the entries actually due.
+ * <p>
+ * Keys are not deduplicated; rescheduling adds a second entry, so consumers should verify an expiry is still current.
+ *
+ * @author King Lemming
+ */
+public class TimingWheel {
+
+    protected static final int INNER_BITS = 8;
+    protected static final int INNER_SIZE = 1 << INNER_BITS;
+    protected static final int OUTER_BITS = 6;
+    protected static final int OUTER_SIZE = 1 << OUTER_BITS;
+    protected static final int OUTER_SPAN = INNER_SIZE * OUTER_SIZE;
+
+    // Each list holds (key, expiry) pairs.
+    protected final LongArrayList[] inner = new LongArrayList[INNER_SIZE];
+    protected final LongArrayList[] outer = new LongArrayList[OUTER_SIZE];
+    protected final LongArrayList overflow = new LongArrayList();
+
+    protected long current;
+    protected int size;
+
+    public TimingWheel(long currentTick) {
+
+        this.current = currentTick;
+        for (int i = 0; i < INNER_SIZE; ++i) {
+            inner[i] = new LongArrayList();
+        }
+        for (int i = 0; i < OUTER_SIZE; ++i) {
+            outer[i] = new LongArrayList();
+        }
+    }
+
+    public int size() {
+
+        return size;
+    }
+
+    public boolean isEmpty() {
+
+        return size == 0;
+    }
+
+    /**
+     * Schedules a key. Expiries which are already past fire on the next advance.
+     */
+    public void schedule(long key, long expiry) {
+
+        place(key, Math.max(expiry, current + 1));
+        ++size;
+    }
+
+    /**
+     * Advances the wheel to the given tick, handing every key which has come due to the consumer.
+     */
+    public void advance(long tick, LongConsumer expired) {
+
+        while (current < tick) {
+            if (size == 0) {
+                current = tick;
+                return;
+            }
+            ++current;
+            if ((current & (INNER_SIZE - 1)) == 0) {
+                if ((current & (OUTER_SPAN - 1)) == 0) {
+                    cascade(overflow);
+                }
+                cascade(outer[(int) (current >> INNER_BITS) & (OUTER_SIZE - 1)]);
+            }
+            LongArrayList slot = inner[(int) current & (INNER_SIZE - 1)];
+            if (slot.isEmpty()) {
+                continue;
+            }
+            for (int i = 0; i < slot.size(); i += 2) {
+                expired.accept(slot.getLong(i));
+            }
+            size -= slot.size() >> 1;
+            slot.clear();
+        }
+    }
+
+    public void clear() {
+
+        for (LongArrayList slot : inner) {
+            slot.clear();
+        }
+        for (LongArrayList slot : outer) {
+            slot.clear();
+        }
+        overflow.clear();
+        size = 0;
+    }
+
+    // region HELPERS
+    protected void place(long key, long expiry) {
+
+        long delta = expiry - current;
+        LongArrayList slot;
+        if (delta < INNER_SIZE) {
+            slot = inner[(int) expiry & (INNER_SIZE - 1)];
+        } else if (delta < OUTER_SPAN) {
+            slot = outer[(int) (expiry >> INNER_BITS) & (OUTER_SIZE - 1)];
+        } else {
+            slot = overflow;
+        }
+        slot.add(key);
+        slot.add(expiry);
+    }
+
+    protected void cascade(LongArrayList slot) {
+
+        if (slot.isEmpty()) {
+            return;
+        }
+        long[] entries = slot.toLongArray();
+        slot.clear();
+        for (int i = 0; i < entries.length; i += 2) {
+            place(entries[i], entries[i + 1]);
+        }
+    }
+    // endregion
+}
@@ -1,6 +1,7 @@
 package cofh.lib.util;
 
 import cofh.lib.enchantment.EnchantmentCoFH;
+import cofh.lib.enchantment.EnchantmentLevelCache;
 import cofh.lib.util.helpers.MathHelper;
 import cofh.lib.util.references.ItemTagsCoFH;
 import com.electronwill.nightconfig.core.file.CommentedFileConfig;
@@ -9,10 +10,10 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import it.unimi.dsi.fastutil.HashCommon;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.enchantment.Enchantment;
-import net.minecraft.enchantment.EnchantmentHelper;
 import net.minecraft.entity.CreatureAttribute;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
@@ -60,7 +61,6 @@ import java.util.Random;
 
 import static cofh.lib.util.constants.Constants.MAX_CAPACITY;
 import static cofh.lib.util.constants.NBTTags.TAG_ENCHANTMENTS;
-import static net.minecraft.enchantment.EnchantmentHelper.getEnchantmentLevel;
 import static net.minecraftforge.common.util.Constants.NBT.TAG_COMPOUND;
 import static net.minecraftforge.common.util.Constants.NBT.TAG_LIST;
 
@@ -205,6 +205,34 @@ public class Utils {
 
         return timeConstantQuarter == 0;
     }
+
+    /**
+     * Phase-offset variants: each position fires once per period, but positions are spread evenly across it rather
+     * than all firing on the same tick. These follow the world's own game time, so they stay in step with that world
+     * (and are unaffected by how often the shared time constants are ticked).
+     */
+    public static boolean timeCheck(World world, BlockPos pos) {
+
+        return ((world.getGameTime() + getTimePhase(pos)) & (TIME_CONSTANT - 1)) == 0;
+    }
+
+    public static boolean timeCheckHalf(World world, BlockPos pos) {
+
+        return ((world.getGameTime() + getTimePhase(pos)) & (TIME_CONSTANT_HALF - 1)) == 0;
+    }
+
+    public static boolean timeCheckQuarter(World world, BlockPos pos) {
+
+        return ((world.getGameTime() + getTimePhase(pos)) & (TIME_CONSTANT_QUARTER - 1)) == 0;
+    }
+
+    /**
+     * Well-mixed, non-negative hash of a position; use modulo a period to derive a stable phase.
+     */
+    public static int getTimePhase(BlockPos pos) {
+
+        return (int) HashCommon.mix(pos.asLong()) & Integer.MAX_VALUE;
+    }
     // endregion
 
     // region PARTICLE UTILS
@@ -393,7 +421,7 @@ public class Utils {
         if (ench == null || ench instanceof EnchantmentCoFH && !((EnchantmentCoFH) ench).isEnabled()) {
             return 0;
         }
-        return EnchantmentHelper.getItemEnchantmentLevel(ench, stack);
+        return EnchantmentLevelCache.getItemLevel(ench, stack);
     }
 
     public static int getHeldEnchantmentLevel(LivingEntity living, Enchantment ench) {
@@ -401,7 +429,7 @@ public class Utils {
         if (ench == null || ench instanceof EnchantmentCoFH && !((EnchantmentCoFH) ench).isEnabled()) {
             return 0;
         }
-        return Math.max(EnchantmentHelper.getItemEnchantmentLevel(ench, living.getMainHandItem()), EnchantmentHelper.getItemEnchantmentLevel(ench, living.getOffhandItem()));
+        return Math.max(EnchantmentLevelCache.getItemLevel(ench, living.getMainHandItem()), EnchantmentLevelCache.getItemLevel(ench, living.getOffhandItem()));
     }
 
     public static int getMaxEquippedEnchantmentLevel(LivingEntity living, Enchantment ench) {
@@ -409,7 +437,7 @@ public class Utils {
         if (ench == null || ench instanceof EnchantmentCoFH && !((EnchantmentCoFH) ench).isEnabled()) {
             return 0;
         }
-        return getEnchantmentLevel(ench, living);
+        return EnchantmentLevelCache.getEquippedLevel(ench, living);
     }
 
     public static void addEnchantment(ItemStack stack, Enchantment ench, int level) {
@@ -161,6 +161,7 @@ public class Constants {
     public static final String CMD_FLAG = "flag";
     public static final String CMD_PLAYER = "player";
     public static final String CMD_PLAYERS = "players";
+    public static final String CMD_SECONDS = "seconds";
     public static final String CMD_TARGETS = "targets";
     // endregion
 
@@ -170,9 +171,11 @@ public class Constants {
     public static final int PACKET_REDSTONE = 3;
     public static final int PACKET_STATE = 4;
     public static final int PACKET_RENDER = 5;
+    public static final int PACKET_STATE_BATCH = 6;
 
     public static final int PACKET_CHAT = 16;
     public static final int PACKET_MOTION = 17;
+    public static final int PACKET_OWNER_TABLE = 18;
 
     public static final int PACKET_GUI_OPEN = 20;
 
@@ -191,6 +194,18 @@ public class Constants {
     public static final int PACKET_ITEM_LEFT_CLICK = 65;
     // endregion
 
+    // region SYNC
+    public static final int SYNC_RECONFIG = 1;
+    public static final int SYNC_REDSTONE = 1 << 1;
+    public static final int SYNC_TRANSFER = 1 << 2;
+    public static final int SYNC_SECURITY = 1 << 3;
+    public static final int SYNC_INVENTORY = 1 << 4;
+    public static final int SYNC_TANKS = 1 << 5;
+
+    public static final int SYNC_CONTROL = SYNC_RECONFIG | SYNC_REDSTONE | SYNC_TRANSFER | SYNC_SECURITY;
+    public static final int SYNC_ALL = SYNC_CONTROL | SYNC_INVENTORY | SYNC_TANKS;
+    // endregion
+
     // region CONSTANTS
     public static final BooleanSupplier TRUE = () -> true;
     public static final BooleanSupplier FALSE = () -> false;
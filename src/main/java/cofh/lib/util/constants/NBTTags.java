@@ -37,6 +37,7 @@ public class NBTTags {
     public static final String TAG_ENERGY_MAX = "EnergyMax";
     public static final String TAG_ENERGY_RECV = "EnergyRecv";
     public static final String TAG_ENERGY_SEND = "EnergySend";
+    public static final String TAG_EXPIRY = "Expiry";
     public static final String TAG_FACING = "Facing";
     public static final String TAG_FILTER = "Filter";
     public static final String TAG_FILTER_OPT_LIST = "AllowList";
@@ -68,9 +69,11 @@ public class NBTTags {
     public static final String TAG_SLOT = "Slot";
     public static final String TAG_SLOTS = "Slots";
     public static final String TAG_STORED_ENCHANTMENTS = "StoredEnchantments";
+    public static final String TAG_SYNC = "Sync";
     public static final String TAG_TANK = "Tank";
     public static final String TAG_TANKS = "Tanks";
     public static final String TAG_TANK_INV = "TankInv";
+    public static final String TAG_TIMED_POS = "TimedPos";
     public static final String TAG_TIMER = "Timer";
     public static final String TAG_TRACK_IN = "TrackIn";
     public static final String TAG_TRACK_OUT = "TrackOut";
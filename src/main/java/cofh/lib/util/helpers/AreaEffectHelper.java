@@ -2,6 +2,9 @@ package cofh.lib.util.helpers;
 
 import cofh.lib.util.RayTracer;
 import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrays;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.IBucketPickupHandler;
 import net.minecraft.block.material.Material;
@@ -10,27 +13,36 @@ import net.minecraft.item.HoeItem;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.ToolItem;
+import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockRayTraceResult;
 import net.minecraft.util.math.RayTraceContext;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.world.World;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 import static cofh.lib.capability.CapabilityAreaEffect.AREA_EFFECT_ITEM_CAPABILITY;
 import static cofh.lib.util.Utils.getItemEnchantmentLevel;
 import static cofh.lib.util.references.EnsorcReferences.*;
 import static net.minecraft.util.Direction.DOWN;
 
+/**
+ * Area of effect block selection.
+ * <p>
+ * Candidate positions come from precomputed relative offset tables, cached per box (which is a function of shape,
+ * radius, depth and facing). The "Packed" variants return positions as BlockPos longs; the ImmutableList variants are
+ * kept for API compatibility and simply unpack them.
+ */
 public class AreaEffectHelper {
 
     private AreaEffectHelper() {
 
     }
 
+    private static final int OFFSET_LIMIT = 127;
+    private static final Long2ObjectOpenHashMap<long[]> OFFSET_CACHE = new Long2ObjectOpenHashMap<>();
+
     public static boolean validAreaEffectItem(ItemStack stack) {
 
         return stack.getCapability(AREA_EFFECT_ITEM_CAPABILITY).isPresent() || stack.getItem() instanceof ToolItem;
@@ -46,325 +58,244 @@ public class AreaEffectHelper {
      */
     public static ImmutableList<BlockPos> getAreaEffectBlocks(ItemStack stack, BlockPos pos, PlayerEntity player) {
 
+        return toList(getAreaEffectBlocksPacked(stack, pos, player));
+    }
+
+    public static long[] getAreaEffectBlocksPacked(ItemStack stack, BlockPos pos, PlayerEntity player) {
+
         int encExcavating = getItemEnchantmentLevel(EXCAVATING, stack);
         if (encExcavating > 0) {
-            return getBreakableBlocksRadius(stack, pos, player, encExcavating);
+            return getBreakableBlocksRadiusPacked(stack, pos, player, encExcavating);
         }
         int encTilling = getItemEnchantmentLevel(TILLING, stack);
         if (encTilling > 0) {
-            return getTillableBlocksRadius(stack, pos, player, encTilling);
+            return getTillableBlocksRadiusPacked(stack, pos, player, encTilling);
         }
         int encFurrowing = getItemEnchantmentLevel(FURROWING, stack);
         if (encFurrowing > 0) {
-            return getTillableBlocksLine(stack, pos, player, encFurrowing * 2);
+            return getTillableBlocksLinePacked(stack, pos, player, encFurrowing * 2);
         }
-        return ImmutableList.of();
+        return LongArrays.EMPTY_ARRAY;
     }
 
     // region FLUID
     public static ImmutableList<BlockPos> getBucketableBlocksRadius(ItemStack stack, BlockPos pos, PlayerEntity player, int radius) {
 
-        List<BlockPos> area;
+        return toList(getBucketableBlocksRadiusPacked(stack, pos, player, radius));
+    }
+
+    public static long[] getBucketableBlocksRadiusPacked(ItemStack stack, BlockPos pos, PlayerEntity player, int radius) {
+
         World world = player.getCommandSenderWorld();
         Item tool = stack.getItem();
 
         BlockRayTraceResult traceResult = RayTracer.retrace(player, RayTraceContext.FluidMode.SOURCE_ONLY);
         if (traceResult.getType() == RayTraceResult.Type.MISS || player.isSecondaryUseActive() || radius <= 0) {
-            return ImmutableList.of();
-        }
-        int yMin = -1;
-        int yMax = 2 * radius - 1;
-
-        switch (traceResult.getDirection()) {
-            case DOWN:
-            case UP:
-                area = BlockPos.betweenClosedStream(pos.offset(-radius, 0, -radius), pos.offset(radius, 0, radius))
-                        .filter(blockPos -> isBucketable(tool, stack, world, blockPos))
-                        .map(BlockPos::immutable)
-                        .collect(Collectors.toList());
-                break;
-            case NORTH:
-            case SOUTH:
-                area = BlockPos.betweenClosedStream(pos.offset(-radius, yMin, 0), pos.offset(radius, yMax, 0))
-                        .filter(blockPos -> isBucketable(tool, stack, world, blockPos))
-                        .map(BlockPos::immutable)
-                        .collect(Collectors.toList());
-                break;
-            default:
-                area = BlockPos.betweenClosedStream(pos.offset(0, yMin, -radius), pos.offset(0, yMax, radius))
-                        .filter(blockPos -> isBucketable(tool, stack, world, blockPos))
-                        .map(BlockPos::immutable)
-                        .collect(Collectors.toList());
-                break;
+            return LongArrays.EMPTY_ARRAY;
         }
-        area.remove(pos);
-        return ImmutableList.copyOf(area);
+        return select(pos, getFaceOffsets(traceResult.getDirection(), radius), true, blockPos -> isBucketable(tool, stack, world, blockPos));
     }
     // endregion
 
     // region MINING
     public static ImmutableList<BlockPos> getBreakableBlocksRadius(ItemStack stack, BlockPos pos, PlayerEntity player, int radius) {
 
-        List<BlockPos> area;
+        return toList(getBreakableBlocksRadiusPacked(stack, pos, player, radius));
+    }
+
+    public static long[] getBreakableBlocksRadiusPacked(ItemStack stack, BlockPos pos, PlayerEntity player, int radius) {
+
         World world = player.getCommandSenderWorld();
         Item tool = stack.getItem();
 
         BlockRayTraceResult traceResult = RayTracer.retrace(player, RayTraceContext.FluidMode.NONE);
         if (traceResult.getType() == RayTraceResult.Type.MISS || player.isSecondaryUseActive() || !canToolAffect(tool, stack, world, pos) || radius <= 0) {
-            return ImmutableList.of();
-        }
-        int yMin = -1;
-        int yMax = 2 * radius - 1;
-
-        switch (traceResult.getDirection()) {
-            case DOWN:
-            case UP:
-                area = BlockPos.betweenClosedStream(pos.offset(-radius, 0, -radius), pos.offset(radius, 0, radius))
-                        .filter(blockPos -> canToolAffect(tool, stack, world, blockPos))
-                        .map(BlockPos::immutable)
-                        .collect(Collectors.toList());
-                break;
-            case NORTH:
-            case SOUTH:
-                area = BlockPos.betweenClosedStream(pos.offset(-radius, yMin, 0), pos.offset(radius, yMax, 0))
-                        .filter(blockPos -> canToolAffect(tool, stack, world, blockPos))
-                        .map(BlockPos::immutable)
-                        .collect(Collectors.toList());
-                break;
-            default:
-                area = BlockPos.betweenClosedStream(pos.offset(0, yMin, -radius), pos.offset(0, yMax, radius))
-                        .filter(blockPos -> canToolAffect(tool, stack, world, blockPos))
-                        .map(BlockPos::immutable)
-                        .collect(Collectors.toList());
-                break;
+            return LongArrays.EMPTY_ARRAY;
         }
-        area.remove(pos);
-        return ImmutableList.copyOf(area);
+        return select(pos, getFaceOffsets(traceResult.getDirection(), radius), true, blockPos -> canToolAffect(tool, stack, world, blockPos));
     }
 
     public static ImmutableList<BlockPos> getBreakableBlocksDepth(ItemStack stack, BlockPos pos, PlayerEntity player, int radius, int depth) {
 
-        List<BlockPos> area;
+        return toList(getBreakableBlocksDepthPacked(stack, pos, player, radius, depth));
+    }
+
+    public static long[] getBreakableBlocksDepthPacked(ItemStack stack, BlockPos pos, PlayerEntity player, int radius, int depth) {
+
         World world = player.getCommandSenderWorld();
         Item tool = stack.getItem();
 
         BlockRayTraceResult traceResult = RayTracer.retrace(player, RayTraceContext.FluidMode.NONE);
         if (traceResult.getType() == RayTraceResult.Type.MISS || player.isSecondaryUseActive() || !canToolAffect(tool, stack, world, pos) || (radius <= 0 && depth <= 0)) {
-            return ImmutableList.of();
+            return LongArrays.EMPTY_ARRAY;
         }
-        int dMin = depth;
-        int dMax = 0;
-
         int yMin = -1;
         int yMax = 2 * radius - 1;
+        long[] offsets;
 
         switch (traceResult.getDirection()) {
             case DOWN:
-                dMin = 0;
-                dMax = depth;
+                offsets = getBoxOffsets(-radius, 0, -radius, radius, depth, radius);
+                break;
             case UP:
-                area = BlockPos.betweenClosedStream(pos.offset(-radius, -dMin, -radius), pos.offset(radius, dMax, radius))
-                        .filter(blockPos -> canToolAffect(tool, stack, world, blockPos))
-                        .map(BlockPos::immutable)
-                        .collect(Collectors.toList());
+                offsets = getBoxOffsets(-radius, -depth, -radius, radius, 0, radius);
                 break;
             case NORTH:
-                dMin = 0;
-                dMax = depth;
+                offsets = getBoxOffsets(-radius, yMin, 0, radius, yMax, depth);
+                break;
             case SOUTH:
-                area = BlockPos.betweenClosedStream(pos.offset(-radius, yMin, -dMin), pos.offset(radius, yMax, dMax))
-                        .filter(blockPos -> canToolAffect(tool, stack, world, blockPos))
-                        .map(BlockPos::immutable)
-                        .collect(Collectors.toList());
+                offsets = getBoxOffsets(-radius, yMin, -depth, radius, yMax, 0);
                 break;
             case WEST:
-                dMin = 0;
-                dMax = depth;
+                offsets = getBoxOffsets(0, yMin, -radius, depth, yMax, radius);
+                break;
             default:
-                area = BlockPos.betweenClosedStream(pos.offset(-dMin, yMin, -radius), pos.offset(dMax, yMax, radius))
-                        .filter(blockPos -> canToolAffect(tool, stack, world, blockPos))
-                        .map(BlockPos::immutable)
-                        .collect(Collectors.toList());
+                offsets = getBoxOffsets(-depth, yMin, -radius, 0, yMax, radius);
                 break;
-
         }
-        area.remove(pos);
-        return ImmutableList.copyOf(area);
+        return select(pos, offsets, true, blockPos -> canToolAffect(tool, stack, world, blockPos));
     }
 
     public static ImmutableList<BlockPos> getBreakableBlocksLine(ItemStack stack, BlockPos pos, PlayerEntity player, int length) {
 
-        ArrayList<BlockPos> area = new ArrayList<>();
+        return toList(getBreakableBlocksLinePacked(stack, pos, player, length));
+    }
+
+    public static long[] getBreakableBlocksLinePacked(ItemStack stack, BlockPos pos, PlayerEntity player, int length) {
+
         World world = player.getCommandSenderWorld();
         Item tool = stack.getItem();
 
-        BlockPos query;
-        int x = pos.getX();
-        int y = pos.getY();
-        int z = pos.getZ();
-
         if (player.isSecondaryUseActive() || !canToolAffect(tool, stack, world, pos) || length <= 0) {
-            return ImmutableList.of();
+            return LongArrays.EMPTY_ARRAY;
         }
-        switch (player.getDirection()) {
-            case SOUTH:
-                for (int k = z + 1; k < z + length + 1; ++k) {
-                    query = new BlockPos(x, y, k);
-                    if (!canToolAffect(tool, stack, world, query)) {
-                        break;
-                    }
-                    area.add(query);
-                }
-                break;
-            case WEST:
-                for (int i = x - 1; i > x - length - 1; --i) {
-                    query = new BlockPos(i, y, z);
-                    if (!canToolAffect(tool, stack, world, query)) {
-                        break;
-                    }
-                    area.add(query);
-                }
-                break;
-            case NORTH:
-                for (int k = z - 1; k > z - length - 1; --k) {
-                    query = new BlockPos(x, y, k);
-                    if (!canToolAffect(tool, stack, world, query)) {
-                        break;
-                    }
-                    area.add(query);
-                }
-                break;
-            case EAST:
-                for (int i = x + 1; i < x + length + 1; ++i) {
-                    query = new BlockPos(i, y, z);
-                    if (!canToolAffect(tool, stack, world, query)) {
-                        break;
-                    }
-                    area.add(query);
-                }
+        Direction dir = player.getDirection();
+        if (dir.getAxis() == Direction.Axis.Y) {
+            return LongArrays.EMPTY_ARRAY;
+        }
+        // Stops at the first block which cannot be broken.
+        LongArrayList area = new LongArrayList(length);
+        BlockPos.Mutable query = new BlockPos.Mutable();
+        for (int k = 1; k <= length; ++k) {
+            query.setWithOffset(pos, dir.getStepX() * k, 0, dir.getStepZ() * k);
+            if (!canToolAffect(tool, stack, world, query)) {
                 break;
+            }
+            area.add(query.asLong());
         }
-        return ImmutableList.copyOf(area);
+        return area.toLongArray();
     }
     // endregion
 
     // region PLACING
     public static ImmutableList<BlockPos> getPlaceableBlocksRadius(ItemStack stack, BlockPos pos, PlayerEntity player, int radius) {
 
-        List<BlockPos> area;
+        return toList(getPlaceableBlocksRadiusPacked(stack, pos, player, radius));
+    }
+
+    public static long[] getPlaceableBlocksRadiusPacked(ItemStack stack, BlockPos pos, PlayerEntity player, int radius) {
+
         World world = player.getCommandSenderWorld();
         Item tool = stack.getItem();
 
         BlockRayTraceResult traceResult = RayTracer.retrace(player, RayTraceContext.FluidMode.NONE);
         if (traceResult.getType() == RayTraceResult.Type.MISS || player.isSecondaryUseActive() || !canToolAffect(tool, stack, world, pos) || radius <= 0) {
-            return ImmutableList.of();
+            return LongArrays.EMPTY_ARRAY;
         }
-        int yMin = -1;
-        int yMax = 2 * radius - 1;
-
-        switch (traceResult.getDirection()) {
-            case DOWN:
-            case UP:
-                area = BlockPos.betweenClosedStream(pos.offset(-radius, 0, -radius), pos.offset(radius, 0, radius))
-                        .filter(blockPos -> canToolAffect(tool, stack, world, blockPos))
-                        .map(BlockPos::immutable)
-                        .collect(Collectors.toList());
-                break;
-            case NORTH:
-            case SOUTH:
-                area = BlockPos.betweenClosedStream(pos.offset(-radius, yMin, 0), pos.offset(radius, yMax, 0))
-                        .filter(blockPos -> canToolAffect(tool, stack, world, blockPos))
-                        .map(BlockPos::immutable)
-                        .collect(Collectors.toList());
-                break;
-            default:
-                area = BlockPos.betweenClosedStream(pos.offset(0, yMin, -radius), pos.offset(0, yMax, radius))
-                        .filter(blockPos -> canToolAffect(tool, stack, world, blockPos))
-                        .map(BlockPos::immutable)
-                        .collect(Collectors.toList());
-                break;
-        }
-        return ImmutableList.copyOf(area);
+        return select(pos, getFaceOffsets(traceResult.getDirection(), radius), false, blockPos -> canToolAffect(tool, stack, world, blockPos));
     }
     // endregion
 
     // region HOE
     public static ImmutableList<BlockPos> getTillableBlocksRadius(ItemStack stack, BlockPos pos, PlayerEntity player, int radius) {
 
-        List<BlockPos> area;
+        return toList(getTillableBlocksRadiusPacked(stack, pos, player, radius));
+    }
+
+    public static long[] getTillableBlocksRadiusPacked(ItemStack stack, BlockPos pos, PlayerEntity player, int radius) {
+
         World world = player.getCommandSenderWorld();
         boolean weeding = getItemEnchantmentLevel(WEEDING, stack) > 0;
 
         BlockRayTraceResult traceResult = RayTracer.retrace(player, RayTraceContext.FluidMode.NONE);
         if (traceResult.getType() == RayTraceResult.Type.MISS || traceResult.getDirection() == DOWN || player.isSecondaryUseActive() || !canHoeAffect(world, pos, weeding) || radius <= 0) {
-            return ImmutableList.of();
+            return LongArrays.EMPTY_ARRAY;
         }
-        area = BlockPos.betweenClosedStream(pos.offset(-radius, 0, -radius), pos.offset(radius, 0, radius))
-                .filter(blockPos -> canHoeAffect(world, blockPos, weeding))
-                .map(BlockPos::immutable)
-                .collect(Collectors.toList());
-        area.remove(pos);
-        return ImmutableList.copyOf(area);
+        return select(pos, getBoxOffsets(-radius, 0, -radius, radius, 0, radius), true, blockPos -> canHoeAffect(world, blockPos, weeding));
     }
 
     public static ImmutableList<BlockPos> getTillableBlocksLine(ItemStack stack, BlockPos pos, PlayerEntity player, int length) {
 
-        List<BlockPos> area;
+        return toList(getTillableBlocksLinePacked(stack, pos, player, length));
+    }
+
+    public static long[] getTillableBlocksLinePacked(ItemStack stack, BlockPos pos, PlayerEntity player, int length) {
+
         World world = player.getCommandSenderWorld();
         boolean weeding = getItemEnchantmentLevel(WEEDING, stack) > 0;
 
         if (player.isSecondaryUseActive() || !canHoeAffect(world, pos, weeding) || length <= 0) {
-            return ImmutableList.of();
+            return LongArrays.EMPTY_ARRAY;
         }
+        long[] offsets;
         switch (player.getDirection()) {
             case SOUTH:
-                area = BlockPos.betweenClosedStream(pos.offset(0, 0, 1), pos.offset(0, 0, length + 1))
-                        .filter(blockPos -> canHoeAffect(world, blockPos, weeding))
-                        .map(BlockPos::immutable)
-                        .collect(Collectors.toList());
+                offsets = getBoxOffsets(0, 0, 1, 0, 0, length + 1);
                 break;
             case WEST:
-                area = BlockPos.betweenClosedStream(pos.offset(-1, 0, 0), pos.offset(-(length + 1), 0, 0))
-                        .filter(blockPos -> canHoeAffect(world, blockPos, weeding))
-                        .map(BlockPos::immutable)
-                        .collect(Collectors.toList());
+                offsets = getBoxOffsets(-(length + 1), 0, 0, -1, 0, 0);
                 break;
             case NORTH:
-                area = BlockPos.betweenClosedStream(pos.offset(0, 0, -1), pos.offset(0, 0, -(length + 1)))
-                        .filter(blockPos -> canHoeAffect(world, blockPos, weeding))
-                        .map(BlockPos::immutable)
-                        .collect(Collectors.toList());
+                offsets = getBoxOffsets(0, 0, -(length + 1), 0, 0, -1);
                 break;
             case EAST:
-                area = BlockPos.betweenClosedStream(pos.offset(1, 0, 0), pos.offset(length + 1, 0, 0))
-                        .filter(blockPos -> canHoeAffect(world, blockPos, weeding))
-                        .map(BlockPos::immutable)
-                        .collect(Collectors.toList());
+                offsets = getBoxOffsets(1, 0, 0, length + 1, 0, 0);
                 break;
             default:
-                area = ImmutableList.of();
+                return LongArrays.EMPTY_ARRAY;
         }
-        area.remove(pos);
-        return ImmutableList.copyOf(area);
+        return select(pos, offsets, true, blockPos -> canHoeAffect(world, blockPos, weeding));
     }
     // endregion
 
     // region SICKLE
     public static ImmutableList<BlockPos> getBlocksCentered(ItemStack stack, BlockPos pos, PlayerEntity player, int radius, int height) {
 
-        List<BlockPos> area;
+        return toList(getBlocksCenteredPacked(stack, pos, player, radius, height));
+    }
+
+    public static long[] getBlocksCenteredPacked(ItemStack stack, BlockPos pos, PlayerEntity player, int radius, int height) {
+
         World world = player.getCommandSenderWorld();
         Item tool = stack.getItem();
 
         if (player.isSecondaryUseActive() || !canToolAffect(tool, stack, world, pos) || (radius <= 0 && height <= 0)) {
+            return LongArrays.EMPTY_ARRAY;
+        }
+        return select(pos, getBoxOffsets(-radius, -height, -radius, radius, height, radius), true, blockPos -> canToolAffect(tool, stack, world, blockPos));
+    }
+    // endregion
+
+    // region PACKING
+    public static ImmutableList<BlockPos> toList(long[] positions) {
+
+        if (positions.length == 0) {
             return ImmutableList.of();
         }
-        area = BlockPos.betweenClosedStream(pos.offset(-radius, -height, -radius), pos.offset(radius, height, radius))
-                .filter(blockPos -> canToolAffect(tool, stack, world, blockPos))
-                .map(BlockPos::immutable)
-                .collect(Collectors.toList());
-        area.remove(pos);
-        return ImmutableList.copyOf(area);
+        ImmutableList.Builder<BlockPos> builder = ImmutableList.builderWithExpectedSize(positions.length);
+        for (long position : positions) {
+            builder.add(BlockPos.of(position));
+        }
+        return builder.build();
+    }
+
+    public static long[] toPacked(ImmutableList<BlockPos> positions) {
+
+        long[] ret = new long[positions.size()];
+        for (int i = 0; i < ret.length; ++i) {
+            ret[i] = positions.get(i).asLong();
+        }
+        return ret;
     }
     // endregion
 
@@ -394,5 +325,85 @@ public class AreaEffectHelper {
         BlockState state = world.getBlockState(pos);
         return state.getBlock() instanceof IBucketPickupHandler;
     }
+
+    /**
+     * Flat area facing the given side: horizontal for UP/DOWN, otherwise vertical, extending from one below the
+     * target up to 2 * radius - 1 above it.
+     */
+    private static long[] getFaceOffsets(Direction face, int radius) {
+
+        int yMin = -1;
+        int yMax = 2 * radius - 1;
+
+        switch (face) {
+            case DOWN:
+            case UP:
+                return getBoxOffsets(-radius, 0, -radius, radius, 0, radius);
+            case NORTH:
+            case SOUTH:
+                return getBoxOffsets(-radius, yMin, 0, radius, yMax, 0);
+            default:
+                return getBoxOffsets(0, yMin, -radius, 0, yMax, radius);
+        }
+    }
+
+    /**
+     * Relative offsets (as BlockPos longs) of every position in the given box, bounds inclusive and in any order.
+     */
+    private static long[] getBoxOffsets(int x0, int y0, int z0, int x1, int y1, int z1) {
+
+        int minX = Math.min(x0, x1);
+        int minY = Math.min(y0, y1);
+        int minZ = Math.min(z0, z1);
+        int maxX = Math.max(x0, x1);
+        int maxY = Math.max(y0, y1);
+        int maxZ = Math.max(z0, z1);
+
+        if (Math.max(Math.max(-minX, maxX), Math.max(Math.max(-minY, maxY), Math.max(-minZ, maxZ))) > OFFSET_LIMIT) {
+            return computeBoxOffsets(minX, minY, minZ, maxX, maxY, maxZ);
+        }
+        long key = (long) (minX & 0xFF) << 40 | (long) (minY & 0xFF) << 32 | (long) (minZ & 0xFF) << 24 | (maxX & 0xFF) << 16 | (maxY & 0xFF) << 8 | (maxZ & 0xFF);
+        synchronized (OFFSET_CACHE) {
+            long[] offsets = OFFSET_CACHE.get(key);
+            if (offsets == null) {
+                offsets = computeBoxOffsets(minX, minY, minZ, maxX, maxY, maxZ);
+                OFFSET_CACHE.put(key, offsets);
+            }
+            return offsets;
+        }
+    }
+
+    private static long[] computeBoxOffsets(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+
+        long[] offsets = new long[(maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1)];
+        int i = 0;
+        for (int z = minZ; z <= maxZ; ++z) {
+            for (int y = minY; y <= maxY; ++y) {
+                for (int x = minX; x <= maxX; ++x) {
+                    offsets[i++] = BlockPos.asLong(x, y, z);
+                }
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * Applies the offsets to the origin and keeps the positions which pass the filter.
+     */
+    private static long[] select(BlockPos origin, long[] offsets, boolean excludeOrigin, Predicate<BlockPos> filter) {
+
+        LongArrayList area = new LongArrayList(offsets.length);
+        BlockPos.Mutable query = new BlockPos.Mutable();
+        for (long offset : offsets) {
+            if (excludeOrigin && offset == 0L) {
+                continue;
+            }
+            query.setWithOffset(origin, BlockPos.getX(offset), BlockPos.getY(offset), BlockPos.getZ(offset));
+            if (filter.test(query)) {
+                area.add(query.asLong());
+            }
+        }
+        return area.toLongArray();
+    }
     // endregion
 }
@@ -0,0 +1,154 @@
+package cofh.lib.util.helpers;
+
+import cofh.lib.util.HarvestDropCollector;
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.ExperienceOrbEntity;
+import net.minecraft.entity.item.ItemEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Hand;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.GameType;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.common.ForgeHooks;
+import net.minecraftforge.event.ForgeEventFactory;
+
+/**
+ * Breaks a set of additional blocks for an area-effect tool as one batch.
+ * <p>
+ * Every position still goes through the Forge BreakEvent, so other mods can cancel individual blocks. Item drops
+ * spawned by each broken block are captured by a {@link HarvestDropCollector} and handed out as merged stacks at the
+ * origin (or into the player's inventory, if {@link #dropsToInventory} is set), and experience is dropped as a single
+ * amount. The tool itself is still used once per block, exactly as for a normal break, so durability and energy costs
+ * are unchanged. Block change packets are already coalesced per chunk section by the server chunk map.
+ *
+ * @author King Lemming
+ */
+public class AreaHarvestHelper {
+
+    private AreaHarvestHelper() {
+
+    }
+
+    public static boolean dropsToInventory = false;
+
+    private static final HarvestDropCollector COLLECTOR = new HarvestDropCollector();
+    private static final double CAPTURE_RANGE_SQ = 1.5D * 1.5D;
+    private static ServerWorld captureWorld;
+    private static BlockPos capturePos;
+
+    /**
+     * @return Number of blocks broken.
+     */
+    public static int harvestArea(ServerPlayerEntity player, ItemStack tool, BlockPos origin, long[] positions) {
+
+        if (positions.length == 0 || tool.isEmpty() || captureWorld != null) {
+            return 0;
+        }
+        ServerWorld world = player.getLevel();
+        GameType gameType = player.gameMode.getGameModeForPlayer();
+        boolean creative = player.isCreative();
+
+        int broken = 0;
+        int exp = 0;
+
+        captureWorld = world;
+        try {
+            BlockPos.Mutable pos = new BlockPos.Mutable();
+            for (long position : positions) {
+                if (tool.isEmpty()) {
+                    break;
+                }
+                pos.set(position);
+                BlockState state = world.getBlockState(pos);
+                if (state.isAir(world, pos)) {
+                    continue;
+                }
+                if (state.getDestroySpeed(world, pos) < 0) {
+                    continue;
+                }
+                int blockExp = ForgeHooks.onBlockBreakEvent(world, gameType, player, pos);
+                if (blockExp == -1 || player.blockActionRestricted(world, pos, gameType) || tool.onBlockStartBreak(pos, player)) {
+                    continue;
+                }
+                capturePos = pos;
+                if (creative) {
+                    removeBlock(world, pos, state, player, false);
+                    capturePos = null;
+                    ++broken;
+                    continue;
+                }
+                // Same order as ServerPlayerGameMode.destroyBlock(): the tool reacts (durability, energy) before removal.
+                TileEntity tile = world.getBlockEntity(pos);
+                boolean canHarvest = state.canHarvestBlock(world, pos, player);
+                ItemStack toolCopy = tool.copy();
+                tool.mineBlock(world, state, pos, player);
+                if (tool.isEmpty()) {
+                    ForgeEventFactory.onPlayerDestroyItem(player, toolCopy, Hand.MAIN_HAND);
+                }
+                if (!removeBlock(world, pos, state, player, canHarvest)) {
+                    capturePos = null;
+                    continue;
+                }
+                if (canHarvest) {
+                    state.getBlock().playerDestroy(world, player, pos, state, tile, toolCopy);
+                }
+                capturePos = null;
+                exp += blockExp;
+                ++broken;
+            }
+        } finally {
+            captureWorld = null;
+            capturePos = null;
+            COLLECTOR.deliver(world, origin, dropsToInventory ? player : null);
+        }
+        if (exp > 0) {
+            popExperience(world, origin, exp);
+        }
+        return broken;
+    }
+
+    /**
+     * Call from EntityJoinWorldEvent. Only items spawned within a block or so of the block currently being broken are
+     * captured; anything else spawning mid-harvest (e.g. from a neighbor reacting to the change) is left alone.
+     *
+     * @return TRUE if the entity was an item drop captured by a running harvest, and should not be added.
+     */
+    public static boolean captureDrop(Entity entity) {
+
+        if (capturePos == null || entity.level != captureWorld || !(entity instanceof ItemEntity)) {
+            return false;
+        }
+        if (entity.distanceToSqr(capturePos.getX() + 0.5D, capturePos.getY() + 0.5D, capturePos.getZ() + 0.5D) > CAPTURE_RANGE_SQ) {
+            return false;
+        }
+        COLLECTOR.add(((ItemEntity) entity).getItem());
+        return true;
+    }
+
+    // region HELPERS
+    private static boolean removeBlock(ServerWorld world, BlockPos pos, BlockState state, ServerPlayerEntity player, boolean canHarvest) {
+
+        boolean removed = state.removedByPlayer(world, pos, player, canHarvest, world.getFluidState(pos));
+        if (removed) {
+            state.getBlock().destroy(world, pos, state);
+        }
+        return removed;
+    }
+
+    private static void popExperience(ServerWorld world, BlockPos pos, int amount) {
+
+        if (!world.getGameRules().getBoolean(GameRules.RULE_DOBLOCKDROPS)) {
+            return;
+        }
+        while (amount > 0) {
+            int orb = ExperienceOrbEntity.getExperienceValue(amount);
+            amount -= orb;
+            world.addFreshEntity(new ExperienceOrbEntity(world, pos.getX() + 0.5D, pos.getY() + 0.5D, pos.getZ() + 0.5D, orb));
+        }
+    }
+    // endregion
+}
@@ -1,7 +1,12 @@
 package cofh.lib.util.helpers;
 
+import cofh.lib.inventory.BulkItemTransfer;
 import cofh.lib.inventory.ItemStorageCoFH;
+import cofh.lib.inventory.SimpleItemHandler;
 import cofh.lib.inventory.container.slot.SlotFalseCopy;
+import cofh.lib.tileentity.ITileCallback;
+import cofh.lib.tileentity.NeighborCapabilityCache;
+import cofh.lib.util.IInventoryCallback;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.inventory.ISidedInventory;
 import net.minecraft.inventory.container.Slot;
@@ -15,6 +20,8 @@ import net.minecraftforge.items.wrapper.EmptyHandler;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import net.minecraftforge.items.wrapper.SidedInvWrapper;
 
+import javax.annotation.Nullable;
+import java.util.Collections;
 import java.util.List;
 
 import static cofh.lib.util.helpers.ItemHelper.itemsEqualWithTags;
@@ -89,7 +96,13 @@ public class InventoryHelper {
 
     public static ItemStack insertStackIntoInventory(IItemHandler handler, ItemStack stack, boolean simulate, boolean forceEmptySlot) {
 
-        return forceEmptySlot ? ItemHandlerHelper.insertItem(handler, stack, simulate) : ItemHandlerHelper.insertItemStacked(handler, stack, simulate);
+        if (forceEmptySlot) {
+            return ItemHandlerHelper.insertItem(handler, stack, simulate);
+        }
+        if (handler instanceof SimpleItemHandler) {
+            return ((SimpleItemHandler) handler).insertItemStacked(stack, simulate);
+        }
+        return ItemHandlerHelper.insertItemStacked(handler, stack, simulate);
     }
 
     public static boolean mergeItemStack(List<Slot> slots, ItemStack stack, int startIndex, int endIndex, boolean reverseDirection) {
@@ -162,29 +175,7 @@ public class InventoryHelper {
     // region BLOCK TRANSFER
     public static boolean extractFromAdjacent(TileEntity tile, ItemStorageCoFH slot, int amount, Direction side) {
 
-        TileEntity adjTile = BlockHelper.getAdjacentTileEntity(tile, side);
-        Direction opposite = side.getOpposite();
-
-        if (hasItemHandlerCap(adjTile, opposite)) {
-            IItemHandler handler = getItemHandlerCap(adjTile, opposite);
-            if (handler == EmptyHandler.INSTANCE) {
-                return false;
-            }
-            int initialAmount = amount;
-            for (int i = 0; i < handler.getSlots() && amount > 0; ++i) {
-                ItemStack query = handler.extractItem(i, amount, true);
-                if (query.isEmpty()) {      // Skip empty slots.
-                    continue;
-                }
-                ItemStack ret = slot.insertItem(0, query, true);
-                if (ret.getCount() != query.getCount()) {       // If the slot accepted items.
-                    slot.insertItem(0, handler.extractItem(i, amount, false), false);
-                    amount -= query.getCount() - ret.getCount();
-                }
-            }
-            return amount != initialAmount;
-        }
-        return false;
+        return extractFromAdjacent(tile, Collections.singletonList(slot), amount, side, null) > 0;
     }
 
     public static boolean insertIntoAdjacent(TileEntity tile, ItemStorageCoFH slot, int amount, Direction side) {
@@ -192,21 +183,35 @@ public class InventoryHelper {
         if (slot.isEmpty()) {
             return false;
         }
-        ItemStack initialStack = slot.getItemStack().copy();
-        initialStack.setCount(Math.min(amount, initialStack.getCount()));
-        TileEntity adjTile = BlockHelper.getAdjacentTileEntity(tile, side);
-        Direction opposite = side.getOpposite();
+        return insertIntoAdjacent(tile, Collections.singletonList(slot), amount, side, null) > 0;
+    }
 
-        if (hasItemHandlerCap(adjTile, opposite)) {
-            // OPTIMIZATION: This is used instead of addToInventory because prechecks have already happened.
-            ItemStack inserted = insertStackIntoInventory(getItemHandlerCap(adjTile, opposite), initialStack, false);
-            if (inserted.getCount() >= initialStack.getCount()) {
-                return false;
-            }
-            slot.modify(inserted.getCount() - initialStack.getCount());
-            return true;
+    /**
+     * Pulls up to the given amount of items from the adjacent inventory into any of the given slots, as one batch.
+     *
+     * @return Number of items moved.
+     */
+    public static int extractFromAdjacent(TileEntity tile, List<ItemStorageCoFH> slots, int amount, Direction side, @Nullable IInventoryCallback callback) {
+
+        IItemHandler handler = getAdjacentItemHandler(tile, side);
+        if (handler == EmptyHandler.INSTANCE) {
+            return 0;
+        }
+        return BulkItemTransfer.pull(handler, slots, amount, callback, tile);
+    }
+
+    /**
+     * Pushes up to the given amount of items from the given slots into the adjacent inventory, as one batch.
+     *
+     * @return Number of items moved.
+     */
+    public static int insertIntoAdjacent(TileEntity tile, List<ItemStorageCoFH> slots, int amount, Direction side, @Nullable IInventoryCallback callback) {
+
+        IItemHandler handler = getAdjacentItemHandler(tile, side);
+        if (handler == EmptyHandler.INSTANCE) {
+            return 0;
         }
-        return false;
+        return BulkItemTransfer.push(slots, handler, amount, callback);
     }
     // endregion
 
@@ -222,6 +227,20 @@ public class InventoryHelper {
         return stack;
     }
 
+    /**
+     * Item handler exposed by the neighbor on the given side, through the tile's neighbor cache if it has one.
+     */
+    public static IItemHandler getAdjacentItemHandler(TileEntity tile, Direction side) {
+
+        NeighborCapabilityCache cache = tile instanceof ITileCallback ? ((ITileCallback) tile).neighborCache() : null;
+        if (cache != null) {
+            return cache.getItemHandler(side);
+        }
+        TileEntity adjTile = BlockHelper.getAdjacentTileEntity(tile, side);
+        Direction opposite = side.getOpposite();
+        return hasItemHandlerCap(adjTile, opposite) ? getItemHandlerCap(adjTile, opposite) : EmptyHandler.INSTANCE;
+    }
+
     public static boolean hasItemHandlerCap(TileEntity tile, Direction face) {
 
         return tile != null && tile.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, face).isPresent() || tile instanceof IInventory;